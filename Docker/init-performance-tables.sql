@@ -18,6 +18,13 @@ CREATE TABLE IF NOT EXISTS performance_test_records (
     version BIGINT DEFAULT 0
 );
 
+-- Sequence for pooled id generation (PerformancePooledTestRecord)
+-- INCREMENT BY must match the entity's allocationSize; the start value keeps
+-- pooled ids clear of the BIGSERIAL range used by IDENTITY inserts
+CREATE SEQUENCE IF NOT EXISTS performance_test_records_pooled_seq
+    START WITH 1000000001
+    INCREMENT BY 50;
+
 -- Create indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_test_id ON performance_test_records(test_id);
 CREATE INDEX IF NOT EXISTS idx_category ON performance_test_records(category);
@@ -25,6 +32,25 @@ CREATE INDEX IF NOT EXISTS idx_created_at ON performance_test_records(created_at
 CREATE INDEX IF NOT EXISTS idx_composite ON performance_test_records(category, test_id);
 CREATE INDEX IF NOT EXISTS idx_is_active ON performance_test_records(is_active);
 
+-- UNLOGGED clone for durability trade-off benchmarks (targetTable=UNLOGGED);
+-- no WAL is written for it and it is emptied after a crash. The application
+-- also creates it on demand.
+-- LIKE copies the BIGSERIAL default, which would keep drawing ids from the
+-- standard table's logged sequence; the clone gets its own identity instead,
+-- whose sequence is unlogged along with the table.
+CREATE UNLOGGED TABLE IF NOT EXISTS performance_test_records_unlogged
+    (LIKE performance_test_records INCLUDING ALL);
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'performance_test_records_unlogged'
+                     AND column_name = 'id' AND is_identity = 'YES') THEN
+        ALTER TABLE performance_test_records_unlogged ALTER COLUMN id DROP DEFAULT;
+        ALTER TABLE performance_test_records_unlogged ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY;
+    END IF;
+END
+$$;
+
 -- Create trigger for updated_at timestamp
 CREATE OR REPLACE FUNCTION update_updated_at_column()
 RETURNS TRIGGER AS $$
@@ -45,6 +71,15 @@ CREATE TRIGGER update_performance_test_records_updated_at
 CREATE TABLE IF NOT EXISTS performance_metrics_history (
     id BIGSERIAL PRIMARY KEY,
     test_type VARCHAR(50) NOT NULL,
+    strategy VARCHAR(30),
+    id_strategy VARCHAR(30),
+    execution_mode VARCHAR(20),
+    commit_interval INTEGER,
+    target_table VARCHAR(20),
+    asynchronous_commit BOOLEAN,
+    driver_rewrite BOOLEAN,
+    record_generator VARCHAR(20),
+    operation_id VARCHAR(100),
     batch_size INTEGER NOT NULL,
     records_processed INTEGER NOT NULL,
     duration_ms BIGINT NOT NULL,
@@ -52,6 +87,17 @@ CREATE TABLE IF NOT EXISTS performance_metrics_history (
     memory_used_mb BIGINT NOT NULL,
     records_per_second DECIMAL(10,2) NOT NULL,
     batch_count INTEGER NOT NULL,
+    batch_p50_ms DECIMAL(12,3),
+    batch_p99_ms DECIMAL(12,3),
+    allocated_bytes_per_record DECIMAL(14,2),
+    cpu_ms_per_record DECIMAL(12,6),
+    gc_count BIGINT,
+    gc_time_ms BIGINT,
+    peak_heap_mb BIGINT,
+    wal_bytes BIGINT,
+    wal_bytes_per_row DECIMAL(12,2),
+    shared_blocks_hit BIGINT,
+    shared_blocks_read BIGINT,
     start_time TIMESTAMP NOT NULL,
     end_time TIMESTAMP NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
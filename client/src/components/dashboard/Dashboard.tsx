@@ -153,6 +153,28 @@ const Dashboard: React.FC = () => {
         }
     };
 
+    const runBatchSizeSweep = async () => {
+        if (!validateTestConfig()) return;
+
+        setIsLoading(true);
+        setError(null);
+
+        try {
+            const results = await apiService.runBatchSizeSweep(testConfig.totalRecords);
+
+            setTestResults(prev => [...prev, ...results]);
+
+            // Refresh stats after test
+            await Promise.all([loadSystemStats(), loadDatabaseStats()]);
+        } catch (error: any) {
+            const errorMessage = error?.response?.data?.message || error?.message || 'Batch-size sweep failed';
+            setError(errorMessage);
+            console.error('❌ Batch-size sweep failed:', error);
+        } finally {
+            setIsLoading(false);
+        }
+    };
+
     const clearResults = () => {
         setTestResults([]);
         setError(null);
@@ -267,6 +289,15 @@ const Dashboard: React.FC = () => {
                                 {isLoading ? '⏳ Running...' : '🗑️ Run DELETE Test'}
                             </button>
 
+                            <button
+                                onClick={runBatchSizeSweep}
+                                disabled={isLoading || connectionStatus !== 'connected'}
+                                className="test-button insert-button"
+                                title="Insert and delete at every configured batch size"
+                            >
+                                {isLoading ? '⏳ Running...' : '📈 Run Batch-Size Sweep'}
+                            </button>
+
                             <button
                                 onClick={clearResults}
                                 disabled={isLoading || testResults.length === 0}
@@ -18,6 +18,7 @@ class ApiService {
     private baseURL: string;
     private retryCount = 3;
     private retryDelay = 1000;
+    private jobPollInterval = 1000;
 
     constructor() {
         // Enhanced URL configuration for Docker environments
@@ -25,7 +26,7 @@ class ApiService {
 
         this.api = axios.create({
             baseURL: this.baseURL,
-            timeout: 45000, // Increased timeout for performance tests
+            timeout: 15000, // Long-running tests go through the async job API
             headers: {
                 'Content-Type': 'application/json',
                 'Accept': 'application/json',
@@ -199,11 +200,10 @@ class ApiService {
     // ===== Performance Test Methods with Enhanced Data Handling =====
     async runInsertTest(config: TestConfig): Promise<PerformanceResult> {
         try {
-            const url = `/api/v1/performance/initialize?totalRecords=${config.totalRecords}&batchSize=${config.batchSize}`;
+            const url = `/api/v1/performance/jobs/initialize?totalRecords=${config.totalRecords}&batchSize=${config.batchSize}`;
             console.log(`🚀 Starting INSERT test: ${config.totalRecords} records, batch size ${config.batchSize}`);
 
-            const response: AxiosResponse<ApiResponse<any>> = await this.api.post(url);
-            const adaptedResult = this.adaptPerformanceResult(response.data.data, 'INSERT');
+            const adaptedResult = this.adaptPerformanceResult(await this.runJob(url), 'INSERT');
 
             console.log(`✅ INSERT test completed: ${adaptedResult.throughputRecordsPerSecond.toFixed(2)} records/sec`);
             return adaptedResult;
@@ -215,11 +215,10 @@ class ApiService {
 
     async runDeleteTest(config: TestConfig): Promise<PerformanceResult> {
         try {
-            const url = `/api/v1/performance/delete?totalRecords=${config.totalRecords}&batchSize=${config.batchSize}`;
+            const url = `/api/v1/performance/jobs/delete?totalRecords=${config.totalRecords}&batchSize=${config.batchSize}`;
             console.log(`🗑️ Starting DELETE test: ${config.totalRecords} records, batch size ${config.batchSize}`);
 
-            const response: AxiosResponse<ApiResponse<any>> = await this.api.post(url);
-            const adaptedResult = this.adaptPerformanceResult(response.data.data, 'DELETE');
+            const adaptedResult = this.adaptPerformanceResult(await this.runJob(url), 'DELETE');
 
             console.log(`✅ DELETE test completed: ${adaptedResult.throughputRecordsPerSecond.toFixed(2)} records/sec`);
             return adaptedResult;
@@ -229,6 +228,47 @@ class ApiService {
         }
     }
 
+    // Insert + delete at every configured batch size, each run from the same table state
+    async runBatchSizeSweep(totalRecords: number): Promise<PerformanceResult[]> {
+        try {
+            console.log(`📈 Starting batch-size sweep: ${totalRecords} records`);
+
+            const sweep = await this.runJob(`/api/v1/performance/jobs/sweep?totalRecords=${totalRecords}`);
+            const results = (sweep.results || []).map((result: any) =>
+                this.adaptPerformanceResult(result, String(result.testType).includes('INSERT') ? 'INSERT' : 'DELETE'));
+
+            console.log(`✅ Batch-size sweep completed: ${sweep.points?.length || 0} batch sizes`);
+            return results;
+        } catch (error) {
+            console.error('❌ Batch-size sweep failed:', error);
+            throw error;
+        }
+    }
+
+    async cancelJob(operationId: string): Promise<void> {
+        await this.api.delete(`/api/v1/performance/jobs/${operationId}`);
+    }
+
+    // Submit an async job and poll it until it finishes; resolves with the backend result
+    private async runJob(submitUrl: string): Promise<any> {
+        const submitted: AxiosResponse<ApiResponse<any>> = await this.api.post(submitUrl);
+        const operationId = submitted.data.data.operationId;
+
+        while (true) {
+            await this.delay(this.jobPollInterval);
+            const response: AxiosResponse<ApiResponse<any>> = await this.api.get(`/api/v1/performance/jobs/${operationId}`);
+            const job = response.data.data;
+
+            if (job.state === 'COMPLETED') {
+                return job.result;
+            }
+            if (job.state === 'FAILED' || job.state === 'CANCELLED') {
+                throw new Error(job.error || `Job ${operationId} ${job.state.toLowerCase()}`);
+            }
+            console.log(`⏳ Job ${operationId}: ${job.batchesCompleted}/${job.expectedBatches} batches, ${Math.round(job.rowsPerSecond)} rows/sec`);
+        }
+    }
+
     // Enhanced data adapter for performance results
     private adaptPerformanceResult(backendData: any, operationType: string): PerformanceResult {
         const recordsProcessed = backendData.recordsProcessed || backendData.totalRecords || 0;
@@ -261,6 +301,8 @@ class ApiService {
             avgTimePerBatch: avgTimePerBatch,
             memoryUsedMB: backendData.memoryUsedMB || backendData.memoryUsage || 0,
             cpuUsagePercent: backendData.cpuUsagePercent || backendData.cpuUsage || 0,
+            batchLatency: backendData.batchLatency,
+            recordLatency: backendData.recordLatency,
             timestamp: backendData.timestamp || new Date().toISOString(),
             metadata: {
                 jvmInfo: backendData.jvmInfo || {},
@@ -32,6 +32,16 @@ export interface TestConfig {
     batchSize: number;
 }
 
+export interface LatencyPercentiles {
+    count: number;
+    meanMs: number;
+    p50Ms: number;
+    p90Ms: number;
+    p99Ms: number;
+    p999Ms: number;
+    maxMs: number;
+}
+
 export interface PerformanceResult {
     operationType: "INSERT" | "DELETE" | "BATCH_INSERT" | "BATCH_DELETE" | "UPDATE" | "SELECT" | string;
     recordsProcessed: number;
@@ -51,6 +61,8 @@ export interface PerformanceResult {
     testType?: string;
     cpuUsage?: number;
     averageTimePerRecord?: number;
+    batchLatency?: LatencyPercentiles;
+    recordLatency?: LatencyPercentiles;
     timestamp: string;
     testId: string;
     status: 'SUCCESS' | 'FAILED' | 'PARTIAL';
@@ -3,12 +3,14 @@ package com.vivek.config;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -24,6 +26,8 @@ import java.util.Properties;
  * 
  * Provides:
  * - Optimized HikariCP connection pooling
+ * - A small secondary pool with PgJDBC reWriteBatchedInserts enabled, for
+ *   comparing driver-rewritten JDBC batches against the primary pool
  * - Transaction management with proper timeouts
  * - Hibernate optimization for batch operations
  * - Connection monitoring and health checks
@@ -50,6 +54,17 @@ public class DatabaseConfig {
     @Value("${spring.datasource.password}")
     private String datasourcePassword;
 
+    // Profiles set this (dev: create-drop, docker: update, prod: validate)
+    @Value("${spring.jpa.hibernate.ddl-auto:create-drop}")
+    private String ddlAuto;
+
+    // PgJDBC rewrites batched INSERTs into multi-row VALUES statements
+    @Value("${performance.datasource.rewrite-batched-inserts:false}")
+    private boolean reWriteBatchedInserts;
+
+    @Value("${performance.datasource.rewrite-pool-size:4}")
+    private int rewritePoolSize;
+
     @Bean
     @Primary
     public DataSource dataSource() {
@@ -75,14 +90,52 @@ public class DatabaseConfig {
         // Pool name for monitoring
         config.setPoolName("PerformanceTestPool");
 
+        config.addDataSourceProperty("reWriteBatchedInserts", reWriteBatchedInserts);
+
         // Connection validation
         config.setConnectionTestQuery("SELECT 1");
         config.setValidationTimeout(5000);
 
-        log.info("✅ HikariCP DataSource configured successfully");
+        log.info("✅ HikariCP DataSource configured successfully (reWriteBatchedInserts={})", reWriteBatchedInserts);
         return new HikariDataSource(config);
     }
 
+    /**
+     * Secondary pool that always has reWriteBatchedInserts on; only the JDBC
+     * batch engine uses it, when a run asks for driver rewriting
+     */
+    @Bean(name = "rewriteBatchedInsertsDataSource")
+    public DataSource rewriteBatchedInsertsDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(datasourceUrl);
+        config.setUsername(datasourceUsername);
+        config.setPassword(datasourcePassword);
+        config.setDriverClassName("org.postgresql.Driver");
+
+        config.setMaximumPoolSize(rewritePoolSize);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(30000);
+        config.setIdleTimeout(600000);
+        config.setMaxLifetime(1800000);
+        config.setPoolName("PerformanceTestRewritePool");
+        config.setConnectionTestQuery("SELECT 1");
+        config.setValidationTimeout(5000);
+
+        config.addDataSourceProperty("reWriteBatchedInserts", true);
+
+        log.info("✅ Rewrite-batched-inserts DataSource configured ({} connections)", rewritePoolSize);
+        return new HikariDataSource(config);
+    }
+
+    @Bean(name = "rewriteBatchedInsertsTransactionManager")
+    public PlatformTransactionManager rewriteBatchedInsertsTransactionManager(
+            @Qualifier("rewriteBatchedInsertsDataSource") DataSource rewriteBatchedInsertsDataSource) {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(
+                rewriteBatchedInsertsDataSource);
+        transactionManager.setDefaultTimeout(300);
+        return transactionManager;
+    }
+
     @Bean
     @Primary
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
@@ -103,7 +156,7 @@ public class DatabaseConfig {
 
         // Basic Hibernate settings
         properties.setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        properties.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        properties.setProperty("hibernate.hbm2ddl.auto", ddlAuto);
         properties.setProperty("hibernate.show_sql", "false");
         properties.setProperty("hibernate.format_sql", "true");
 
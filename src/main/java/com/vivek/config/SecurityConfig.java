@@ -97,12 +97,14 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/v1/performance/initialize",
                                 "/api/v1/performance/delete",
+                                "/api/v1/performance/jobs/**",
                                 "/actuator/**")
                         .hasRole("ADMIN")
 
                         // Read-only endpoints for viewers and admins
                         .requestMatchers(
                                 "/api/v1/performance/stats/**",
+                                "/api/v1/performance/history/**",
                                 "/api/v1/performance/health")
                         .hasAnyRole("VIEWER", "ADMIN")
 
@@ -163,7 +165,7 @@ public class SecurityConfig {
 
         // Allowed methods
         configuration.setAllowedMethods(Arrays.asList(
-                "GET", "POST", "OPTIONS"));
+                "GET", "POST", "DELETE", "OPTIONS"));
 
         // Allowed headers
         configuration.setAllowedHeaders(Arrays.asList(
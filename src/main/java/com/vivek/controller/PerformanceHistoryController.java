@@ -0,0 +1,79 @@
+package com.vivek.controller;
+
+import com.vivek.dto.ApiResponse;
+import com.vivek.dto.PerformanceRollup;
+import com.vivek.dto.RollupBucket;
+import com.vivek.model.PerformanceMetricsHistory;
+import com.vivek.service.PerformanceHistoryService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Read access to persisted run history
+ *
+ * Provides:
+ * - Paged history of individual runs
+ * - Hourly/daily/weekly rollups for regression tracking
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/performance/history")
+@CrossOrigin(origins = { "http://localhost:8080", "http://localhost:3000", "http://127.0.0.1:8080",
+        "http://127.0.0.1:3000" }, methods = { RequestMethod.GET }, maxAge = 3600)
+@Validated
+public class PerformanceHistoryController {
+
+    private final PerformanceHistoryService historyService;
+
+    @Autowired
+    public PerformanceHistoryController(PerformanceHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<PagedModel<PerformanceMetricsHistory>>> getHistory(
+            @RequestParam(defaultValue = "7") @Min(value = 1, message = "Days must be at least 1") @Max(value = 365, message = "Days cannot exceed 365") Integer days,
+            @RequestParam(required = false) String testType,
+            @RequestParam(required = false) Integer batchSize,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Page cannot be negative") Integer page,
+            @RequestParam(defaultValue = "50") @Min(value = 1, message = "Page size must be at least 1") @Max(value = 500, message = "Page size cannot exceed 500") Integer size) {
+
+        try {
+            Page<PerformanceMetricsHistory> history = historyService.getHistory(days, testType, batchSize, page, size);
+            return ResponseEntity.ok(ApiResponse.success(new PagedModel<>(history), "Performance history retrieved"));
+        } catch (Exception e) {
+            log.error("❌ Failed to get performance history", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Unable to retrieve performance history"));
+        }
+    }
+
+    @GetMapping("/rollup")
+    public ResponseEntity<ApiResponse<List<PerformanceRollup>>> getRollup(
+            @RequestParam(defaultValue = "28") @Min(value = 1, message = "Days must be at least 1") @Max(value = 365, message = "Days cannot exceed 365") Integer days,
+            @RequestParam(defaultValue = "DAY") RollupBucket bucket,
+            @RequestParam(required = false) String testType) {
+
+        try {
+            List<PerformanceRollup> rollup = historyService.getRollup(days, bucket, testType);
+            return ResponseEntity.ok(ApiResponse.success(rollup, "Performance rollup retrieved"));
+        } catch (Exception e) {
+            log.error("❌ Failed to get performance rollup", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Unable to retrieve performance rollup"));
+        }
+    }
+}
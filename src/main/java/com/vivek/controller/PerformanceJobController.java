@@ -0,0 +1,243 @@
+package com.vivek.controller;
+
+import com.vivek.dto.ApiResponse;
+import com.vivek.dto.BenchmarkOperation;
+import com.vivek.dto.BenchmarkOptions;
+import com.vivek.dto.DeleteStrategy;
+import com.vivek.dto.IndexMaintenanceMode;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.JobStatus;
+import com.vivek.dto.LoadTestOptions;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.RecordGenerator;
+import com.vivek.dto.TestRecordIndex;
+import com.vivek.service.JfrRecordingService;
+import com.vivek.service.PerformanceJobService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Asynchronous counterpart of {@link PerformanceTestController}
+ *
+ * Provides:
+ * - Job submission returning an operationId (202 Accepted)
+ * - Warmup + multi-iteration benchmarks across batch sizes
+ * - Insert/delete sweeps over performance.test.batch-sizes
+ * - JDBC batch vs driver-rewritten batch vs multi-row VALUES comparisons
+ * - Index-maintenance experiments (indexes kept, dropped, or rebuilt after load)
+ * - Concurrent multi-worker load tests
+ * - Live progress polling per operationId
+ * - Download of per-run JFR recordings
+ * - Cancellation between batches
+ *
+ * Run options (insertStrategy, idStrategy, executionMode, commitInterval,
+ * targetTable, ...) bind by name from request parameters into
+ * {@link OperationOptions} and keep its defaults; each endpoint only declares
+ * its own parameters.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/performance/jobs")
+@CrossOrigin(origins = { "http://localhost:8080", "http://localhost:3000", "http://127.0.0.1:8080",
+        "http://127.0.0.1:3000" }, methods = { RequestMethod.GET, RequestMethod.POST,
+                RequestMethod.DELETE }, maxAge = 3600)
+@Validated
+public class PerformanceJobController {
+
+    private final PerformanceJobService performanceJobService;
+    private final JfrRecordingService jfrRecordingService;
+
+    @Autowired
+    public PerformanceJobController(PerformanceJobService performanceJobService,
+            JfrRecordingService jfrRecordingService) {
+        this.performanceJobService = performanceJobService;
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    @PostMapping("/initialize")
+    public ResponseEntity<ApiResponse<JobStatus>> submitInsert(
+            @RequestParam(defaultValue = "1000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 100000, message = "Total records cannot exceed 100,000") @NotNull(message = "Total records is required") Integer totalRecords,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 10000, message = "Batch size cannot exceed 10,000") @NotNull(message = "Batch size is required") Integer batchSize,
+            @RequestParam(required = false) InsertStrategy strategy,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        if (batchSize > totalRecords) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Batch size cannot be greater than total records"));
+        }
+
+        // strategy is this endpoint's original name for insertStrategy
+        if (strategy != null) {
+            options.setInsertStrategy(strategy);
+        }
+        JobStatus job = performanceJobService.submitInsert(totalRecords, batchSize, options);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Insert job submitted"));
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<ApiResponse<JobStatus>> submitDelete(
+            @RequestParam(defaultValue = "1000") @Min(value = 1, message = "Total records must be at least 1") @Max(value = 50000, message = "Total records cannot exceed 50,000 for deletion") @NotNull(message = "Total records is required") Integer totalRecords,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 5000, message = "Batch size cannot exceed 5,000 for deletion") @NotNull(message = "Batch size is required") Integer batchSize,
+            @RequestParam(required = false) DeleteStrategy strategy,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        if (batchSize > totalRecords) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Batch size cannot be greater than total records"));
+        }
+
+        // strategy is this endpoint's original name for deleteStrategy
+        if (strategy != null) {
+            options.setDeleteStrategy(strategy);
+        }
+        JobStatus job = performanceJobService.submitDelete(totalRecords, batchSize, options);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Delete job submitted"));
+    }
+
+    @PostMapping("/benchmark")
+    public ResponseEntity<ApiResponse<JobStatus>> submitBenchmark(
+            @RequestParam(defaultValue = "INSERT") BenchmarkOperation operation,
+            @RequestParam(defaultValue = "1000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 100000, message = "Total records cannot exceed 100,000") Integer totalRecords,
+            @RequestParam(defaultValue = "100") List<Integer> batchSizes,
+            @RequestParam(defaultValue = "2") @Min(value = 0, message = "Warmup iterations cannot be negative") @Max(value = 10, message = "Warmup iterations cannot exceed 10") Integer warmupIterations,
+            @RequestParam(defaultValue = "5") @Min(value = 2, message = "At least 2 measured iterations are required") @Max(value = 30, message = "Measured iterations cannot exceed 30") Integer measuredIterations,
+            @RequestParam(defaultValue = "0.95") Double confidenceLevel,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        BenchmarkOptions benchmarkOptions = BenchmarkOptions.builder()
+                .operation(operation)
+                .totalRecords(totalRecords)
+                .batchSizes(batchSizes)
+                .warmupIterations(warmupIterations)
+                .measuredIterations(measuredIterations)
+                .confidenceLevel(confidenceLevel)
+                .operationOptions(options)
+                .build();
+        JobStatus job = performanceJobService.submitBenchmark(benchmarkOptions);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Benchmark job submitted"));
+    }
+
+    @PostMapping("/sweep")
+    public ResponseEntity<ApiResponse<JobStatus>> submitSweep(
+            @RequestParam(defaultValue = "1000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 50000, message = "Total records cannot exceed 50,000 for a sweep") Integer totalRecords,
+            @RequestParam(required = false) List<Integer> batchSizes,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        JobStatus job = performanceJobService.submitSweep(totalRecords, batchSizes, options);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Batch-size sweep submitted"));
+    }
+
+    @PostMapping("/insert-engines")
+    public ResponseEntity<ApiResponse<JobStatus>> submitInsertEngineComparison(
+            @RequestParam(defaultValue = "10000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 100000, message = "Total records cannot exceed 100,000") Integer totalRecords,
+            @RequestParam(required = false) List<Integer> batchSizes,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        JobStatus job = performanceJobService.submitInsertEngineComparison(totalRecords, batchSizes, options);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Insert engine comparison submitted"));
+    }
+
+    /**
+     * insertStrategy and recordGenerator default to COPY and FAST here, so
+     * row loading stays small next to the index maintenance being measured
+     */
+    @PostMapping("/index-experiment")
+    public ResponseEntity<ApiResponse<JobStatus>> submitIndexExperiment(
+            @RequestParam(defaultValue = "INSERT") BenchmarkOperation operation,
+            @RequestParam(defaultValue = "10000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 100000, message = "Total records cannot exceed 100,000") Integer totalRecords,
+            @RequestParam(defaultValue = "1000") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 10000, message = "Batch size cannot exceed 10,000") Integer batchSize,
+            @RequestParam(required = false) List<TestRecordIndex> indexes,
+            @RequestParam(required = false) List<IndexMaintenanceMode> modes,
+            @RequestParam(defaultValue = "COPY") InsertStrategy insertStrategy,
+            @RequestParam(defaultValue = "FAST") RecordGenerator recordGenerator,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        options.setInsertStrategy(insertStrategy);
+        options.setRecordGenerator(recordGenerator);
+        JobStatus job = performanceJobService.submitIndexExperiment(operation, totalRecords, batchSize, indexes,
+                modes, options);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Index maintenance experiment submitted"));
+    }
+
+    @PostMapping("/load")
+    public ResponseEntity<ApiResponse<JobStatus>> submitLoadTest(
+            @RequestParam(defaultValue = "INSERT") BenchmarkOperation operation,
+            @RequestParam(defaultValue = "1,2,4,8") List<Integer> concurrencyLevels,
+            @RequestParam(defaultValue = "1000") @Min(value = 100, message = "Records per worker must be at least 100") @Max(value = 50000, message = "Records per worker cannot exceed 50,000") Integer recordsPerWorker,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 5000, message = "Batch size cannot exceed 5,000") Integer batchSize,
+            @Valid @ModelAttribute OperationOptions options) {
+
+        LoadTestOptions loadTestOptions = LoadTestOptions.builder()
+                .operation(operation)
+                .concurrencyLevels(concurrencyLevels)
+                .recordsPerWorker(recordsPerWorker)
+                .batchSize(batchSize)
+                .operationOptions(options)
+                .build();
+        JobStatus job = performanceJobService.submitLoadTest(loadTestOptions);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Load test submitted"));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<JobStatus>>> listJobs() {
+        return ResponseEntity.ok(ApiResponse.success(performanceJobService.listJobs(), "Jobs retrieved"));
+    }
+
+    @GetMapping("/{operationId}")
+    public ResponseEntity<ApiResponse<JobStatus>> getJob(@PathVariable String operationId) {
+        return performanceJobService.getJob(operationId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job, "Job status retrieved")))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("No job found with id " + operationId)));
+    }
+
+    /**
+     * Download the JFR recording of a run started with jfrRecording=true;
+     * works for synchronous runs too, since they share the operationId space
+     */
+    @GetMapping("/{operationId}/recording")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable String operationId) {
+        return jfrRecordingService.findRecording(operationId)
+                .map(recording -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(recording.getFileName().toString())
+                                .build()
+                                .toString())
+                        .body((Resource) new FileSystemResource(recording)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{operationId}")
+    public ResponseEntity<ApiResponse<JobStatus>> cancelJob(@PathVariable String operationId) {
+        return performanceJobService.cancel(operationId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job, "Cancellation requested")))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("No job found with id " + operationId)));
+    }
+}
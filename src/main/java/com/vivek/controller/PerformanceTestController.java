@@ -1,8 +1,12 @@
 package com.vivek.controller;
 
 import com.vivek.dto.DatabaseStats;
+import com.vivek.dto.DeleteStrategy;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.OperationOptions;
 import com.vivek.dto.PerformanceResult;
 import com.vivek.service.PerformanceTestService;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -32,10 +36,16 @@ public class PerformanceTestController {
         this.performanceTestService = performanceTestService;
     }
 
+    /**
+     * Run options bind by name into {@link OperationOptions}, as on
+     * {@link PerformanceJobController}
+     */
     @PostMapping("/initialize")
     public ResponseEntity<ApiResponse<PerformanceResult>> smartInitialize(
             @RequestParam(defaultValue = "1000") @Min(value = 100, message = "Total records must be at least 100") @Max(value = 100000, message = "Total records cannot exceed 100,000") @NotNull(message = "Total records is required") Integer totalRecords,
-            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 10000, message = "Batch size cannot exceed 10,000") @NotNull(message = "Batch size is required") Integer batchSize) {
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 10000, message = "Batch size cannot exceed 10,000") @NotNull(message = "Batch size is required") Integer batchSize,
+            @RequestParam(required = false) InsertStrategy strategy,
+            @Valid @ModelAttribute OperationOptions options) {
 
         if (batchSize > totalRecords) {
             return ResponseEntity.badRequest()
@@ -43,7 +53,11 @@ public class PerformanceTestController {
         }
 
         try {
-            PerformanceResult result = performanceTestService.smartInsert(totalRecords, batchSize);
+            // strategy is this endpoint's original name for insertStrategy
+            if (strategy != null) {
+                options.setInsertStrategy(strategy);
+            }
+            PerformanceResult result = performanceTestService.smartInsert(totalRecords, batchSize, options);
             return ResponseEntity.ok(ApiResponse.success(result, "Records inserted successfully"));
         } catch (Exception e) {
             log.error("❌ Smart initialize failed for {} records", totalRecords, e);
@@ -55,7 +69,9 @@ public class PerformanceTestController {
     @PostMapping("/delete")
     public ResponseEntity<ApiResponse<PerformanceResult>> smartDelete(
             @RequestParam(defaultValue = "1000") @Min(value = 1, message = "Total records must be at least 1") @Max(value = 50000, message = "Total records cannot exceed 50,000 for deletion") @NotNull(message = "Total records is required") Integer totalRecords,
-            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 5000, message = "Batch size cannot exceed 5,000 for deletion") @NotNull(message = "Batch size is required") Integer batchSize) {
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Batch size must be at least 1") @Max(value = 5000, message = "Batch size cannot exceed 5,000 for deletion") @NotNull(message = "Batch size is required") Integer batchSize,
+            @RequestParam(required = false) DeleteStrategy strategy,
+            @Valid @ModelAttribute OperationOptions options) {
 
         if (batchSize > totalRecords) {
             return ResponseEntity.badRequest()
@@ -63,7 +79,11 @@ public class PerformanceTestController {
         }
 
         try {
-            PerformanceResult result = performanceTestService.smartDelete(totalRecords, batchSize);
+            // strategy is this endpoint's original name for deleteStrategy
+            if (strategy != null) {
+                options.setDeleteStrategy(strategy);
+            }
+            PerformanceResult result = performanceTestService.smartDelete(totalRecords, batchSize, options);
             return ResponseEntity.ok(ApiResponse.success(result, "Records deleted successfully"));
         } catch (Exception e) {
             log.error("❌ Smart delete failed for {} records", totalRecords, e);
@@ -73,9 +93,10 @@ public class PerformanceTestController {
     }
 
     @GetMapping("/stats/database")
-    public ResponseEntity<ApiResponse<DatabaseStats>> getDatabaseStats() {
+    public ResponseEntity<ApiResponse<DatabaseStats>> getDatabaseStats(
+            @RequestParam(defaultValue = "false") boolean exact) {
         try {
-            DatabaseStats stats = performanceTestService.getDatabaseStats();
+            DatabaseStats stats = performanceTestService.getDatabaseStats(exact);
             return ResponseEntity.ok(ApiResponse.success(stats, "Database statistics retrieved"));
         } catch (Exception e) {
             log.error("❌ Failed to get database stats", e);
@@ -0,0 +1,9 @@
+package com.vivek.dto;
+
+/**
+ * Operation measured by a benchmark run
+ */
+public enum BenchmarkOperation {
+    INSERT,
+    DELETE
+}
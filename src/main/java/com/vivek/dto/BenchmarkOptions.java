@@ -0,0 +1,43 @@
+package com.vivek.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for a warmup + measured-iterations benchmark
+ *
+ * Warmup iterations run exactly like measured ones but their results are
+ * discarded, so JIT compilation, pool start-up and cold buffers do not leak
+ * into the reported numbers.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkOptions {
+
+    private BenchmarkOperation operation;
+
+    private int totalRecords;
+
+    private List<Integer> batchSizes;
+
+    @Builder.Default
+    private int warmupIterations = 2;
+
+    @Builder.Default
+    private int measuredIterations = 5;
+
+    @Builder.Default
+    private double confidenceLevel = 0.95;
+
+    @Builder.Default
+    private OperationOptions operationOptions = OperationOptions.defaults();
+}
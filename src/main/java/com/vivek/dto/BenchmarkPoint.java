@@ -0,0 +1,22 @@
+package com.vivek.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Benchmark statistics for one batch size, over the measured iterations
+ */
+@Data
+@Builder
+public class BenchmarkPoint {
+    private int batchSize;
+    private List<Double> samplesRowsPerSecond;
+    private double meanRowsPerSecond;
+    private double stdDevRowsPerSecond;
+    private double confidenceIntervalLow;
+    private double confidenceIntervalHigh;
+    private double relativeErrorPercent;
+    private double meanBatchP99Ms;
+}
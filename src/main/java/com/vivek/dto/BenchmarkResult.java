@@ -0,0 +1,22 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BenchmarkResult {
+    private String operationId;
+    private BenchmarkOperation operation;
+    private String strategy;
+    private int totalRecords;
+    private int warmupIterations;
+    private int measuredIterations;
+    private double confidenceLevel;
+    private List<BenchmarkPoint> points;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,33 @@
+package com.vivek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * WAL volume and buffer I/O of one run
+ *
+ * WAL bytes are the distance the cluster's WAL insert position moved, so
+ * concurrent writers elsewhere in the cluster are included. Block counters
+ * come from pg_statio_user_tables for the run's target table (heap plus its
+ * indexes); a block "hit" was found in shared buffers, a "read" was not.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatabaseIoUsage {
+    private Long walBytes;
+    private Double walBytesPerRow;
+    private Long sharedBlocksHit;
+    private Long sharedBlocksRead;
+    private Double sharedBufferHitRatio;
+    private Long heapBlocksHit;
+    private Long heapBlocksRead;
+    private Long indexBlocksHit;
+    private Long indexBlocksRead;
+}
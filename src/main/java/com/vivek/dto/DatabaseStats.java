@@ -9,6 +9,8 @@ import lombok.Data;
 @Builder
 public class DatabaseStats {
     private Long totalRecords;
+    // false when totalRecords is a catalog-based estimate
+    private boolean recordCountExact;
     private String tableSize;
     private String connectionInfo;
     private LocalDateTime timestamp;
@@ -0,0 +1,28 @@
+package com.vivek.dto;
+
+/**
+ * Delete statements that can be selected per performance run
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+public enum DeleteStrategy {
+
+    /**
+     * {@code DELETE ... WHERE id IN (:ids)}; one bind parameter per id, so the
+     * statement text changes with every batch size
+     */
+    IN_LIST,
+
+    /**
+     * {@code DELETE ... WHERE id = ANY(?)} with a single bigint[] parameter;
+     * one prepared statement serves every batch size
+     */
+    ANY_ARRAY,
+
+    /**
+     * {@code DELETE ... WHERE id IN (:ids)} issued from a Hibernate
+     * {@code StatelessSession} instead of the transaction's EntityManager
+     */
+    STATELESS_SESSION
+}
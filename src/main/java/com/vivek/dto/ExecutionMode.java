@@ -0,0 +1,19 @@
+package com.vivek.dto;
+
+/**
+ * How single-row operations (batch size 1) are issued
+ */
+public enum ExecutionMode {
+
+    /**
+     * One row after another on the calling thread; inserts share the run's
+     * transaction
+     */
+    SEQUENTIAL,
+
+    /**
+     * One virtual thread per row, each in its own transaction, with at most
+     * as many rows in flight as the connection pool can serve
+     */
+    VIRTUAL_THREADS
+}
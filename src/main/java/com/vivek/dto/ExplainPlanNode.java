@@ -0,0 +1,33 @@
+package com.vivek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One node of an EXPLAIN (ANALYZE, BUFFERS, WAL) plan, flattened depth-first
+ *
+ * Timings and buffer counts include the node's children, as PostgreSQL
+ * reports them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExplainPlanNode {
+    private int depth;
+    private String nodeType;
+    private String relationName;
+    private String indexName;
+    private double actualTotalTimeMs;
+    private long actualRows;
+    private long actualLoops;
+    private long sharedHitBlocks;
+    private long sharedReadBlocks;
+    private long sharedDirtiedBlocks;
+    private long sharedWrittenBlocks;
+    private long walRecords;
+    private long walFpi;
+    private long walBytes;
+}
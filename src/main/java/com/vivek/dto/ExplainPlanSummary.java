@@ -0,0 +1,45 @@
+package com.vivek.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parsed EXPLAIN (ANALYZE, BUFFERS, WAL, FORMAT JSON) of one representative
+ * batch, executed in a savepoint that was rolled back
+ *
+ * Buffer and WAL totals are those of the top plan node, which include index
+ * maintenance on the target table; PostgreSQL does not time index inserts
+ * separately. The table's only trigger (update_performance_test_records_updated_at)
+ * is BEFORE UPDATE, so it never fires for the inserts and deletes explained
+ * here; trigger time is then reported as absent rather than zero.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExplainPlanSummary {
+    // What was explained, e.g. "INSERT ... VALUES x 100 rows"
+    private String statement;
+    private int rows;
+    private double planningTimeMs;
+    private double executionTimeMs;
+    // Null when no trigger fired, with the reason in triggerNote
+    private Double triggerTimeMs;
+    private String triggerNote;
+    private long sharedHitBlocks;
+    private long sharedReadBlocks;
+    private long sharedDirtiedBlocks;
+    private long sharedWrittenBlocks;
+    private long walRecords;
+    private long walFpi;
+    private long walBytes;
+    private List<ExplainTrigger> triggers;
+    private List<ExplainPlanNode> nodes;
+}
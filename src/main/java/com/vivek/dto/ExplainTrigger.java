@@ -0,0 +1,21 @@
+package com.vivek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time spent in one trigger (or FK constraint trigger) during an explained
+ * statement
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExplainTrigger {
+    private String name;
+    private String relation;
+    private double timeMs;
+    private long calls;
+}
@@ -0,0 +1,29 @@
+package com.vivek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change in Hibernate session-factory statistics over one run
+ *
+ * Statistics are shared by the whole session factory, so runs that overlap
+ * with other database work (jobs, load tests, history writes) include that
+ * work as well.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HibernateStatisticsDelta {
+    private long sessionsOpened;
+    private long statementsPrepared;
+    private long entitiesInserted;
+    private long entitiesDeleted;
+    private long flushes;
+    private long transactions;
+}
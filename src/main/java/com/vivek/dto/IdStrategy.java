@@ -0,0 +1,20 @@
+package com.vivek.dto;
+
+/**
+ * Primary key generation used by JPA insert runs
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+public enum IdStrategy {
+
+    /**
+     * Database IDENTITY column; Hibernate inserts one row per statement
+     */
+    IDENTITY,
+
+    /**
+     * Pooled sequence optimizer; lets Hibernate batch INSERT statements
+     */
+    POOLED_SEQUENCE
+}
@@ -0,0 +1,22 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IndexExperimentResult {
+    private String operationId;
+    private BenchmarkOperation operation;
+    private String strategy;
+    private int totalRecords;
+    private int batchSize;
+    private List<TestRecordIndex> droppedIndexes;
+    // KEPT first, then the requested modes in order
+    private List<IndexExperimentVariant> variants;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
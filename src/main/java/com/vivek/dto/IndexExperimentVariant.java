@@ -0,0 +1,28 @@
+package com.vivek.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One variant of an index-maintenance experiment; totalMs = dropMs + runMs +
+ * rebuildMs, and rowsPerSecond and speedup are based on totalMs
+ */
+@Data
+@Builder
+public class IndexExperimentVariant {
+    private IndexMaintenanceMode mode;
+    private List<TestRecordIndex> droppedIndexes;
+    private long dropMs;
+    private long runMs;
+    private long rebuildMs;
+    private long totalMs;
+    // Rebuild time per index, in rebuild order
+    private Map<String, Long> rebuildMsByIndex;
+    private double rowsPerSecond;
+    // Relative to the KEPT variant (1.0 for KEPT itself)
+    private double speedup;
+    private PerformanceResult result;
+}
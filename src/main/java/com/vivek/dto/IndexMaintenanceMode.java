@@ -0,0 +1,24 @@
+package com.vivek.dto;
+
+/**
+ * How the chosen indexes are treated during one index-maintenance variant
+ */
+public enum IndexMaintenanceMode {
+
+    /**
+     * Every index stays in place and is maintained row by row (baseline)
+     */
+    KEPT,
+
+    /**
+     * Chosen indexes are dropped before the run and left dropped; they are
+     * restored afterwards outside the measurement
+     */
+    DROPPED,
+
+    /**
+     * Chosen indexes are dropped before the run and rebuilt with CREATE INDEX
+     * CONCURRENTLY after it; the rebuild counts towards the total time
+     */
+    REBUILT_AFTER_LOAD
+}
@@ -0,0 +1,21 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class InsertEngineComparison {
+    private String operationId;
+    private int totalRecords;
+    private List<Integer> batchSizes;
+    private List<Integer> skippedBatchSizes;
+    private List<InsertEnginePoint> points;
+    // Every individual run, ordered by batch size, then engine
+    private List<PerformanceResult> results;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,21 @@
+package com.vivek.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One batch size of an insert-engine comparison (rows per second and batch
+ * p99 per engine)
+ */
+@Data
+@Builder
+public class InsertEnginePoint {
+    private String name;
+    private int batchSize;
+    private double jdbcBatch;
+    private double jdbcBatchRewritten;
+    private double multiRowValues;
+    private double jdbcBatchP99Ms;
+    private double jdbcBatchRewrittenP99Ms;
+    private double multiRowValuesP99Ms;
+}
@@ -0,0 +1,38 @@
+package com.vivek.dto;
+
+/**
+ * Insert engines that can be selected per performance run
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+public enum InsertStrategy {
+
+    /**
+     * Entities persisted through {@code repository.saveAll} per batch
+     */
+    JPA_BATCH,
+
+    /**
+     * Rows bound straight onto one prepared INSERT and sent with
+     * {@code executeBatch}, bypassing the persistence context
+     */
+    JDBC_BATCH,
+
+    /**
+     * Rows sent as hand-built {@code INSERT ... VALUES (...), (...)}
+     * statements, one per batch (split at the bind-parameter limit)
+     */
+    MULTI_ROW_VALUES,
+
+    /**
+     * Entities inserted through a Hibernate {@code StatelessSession}; no
+     * first-level cache, so memory does not grow with the row count
+     */
+    STATELESS_SESSION,
+
+    /**
+     * Rows streamed with PostgreSQL {@code COPY ... FROM STDIN}, one COPY per batch
+     */
+    COPY
+}
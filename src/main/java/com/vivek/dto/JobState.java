@@ -0,0 +1,19 @@
+package com.vivek.dto;
+
+/**
+ * Lifecycle of an asynchronous performance job
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JobStatus {
+    private String operationId;
+    private String operation;
+    private JobState state;
+    private int totalRecords;
+    private int batchSize;
+    private int batchesCompleted;
+    private int expectedBatches;
+    private long recordsProcessed;
+    private double rowsPerSecond;
+    private LatencyPercentiles batchLatency;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // PerformanceResult for insert/delete jobs, BenchmarkResult for benchmarks
+    private Object result;
+    private String error;
+}
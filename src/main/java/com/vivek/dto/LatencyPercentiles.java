@@ -0,0 +1,19 @@
+package com.vivek.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Latency distribution summary in milliseconds
+ */
+@Data
+@Builder
+public class LatencyPercentiles {
+    private long count;
+    private double meanMs;
+    private double p50Ms;
+    private double p90Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+}
@@ -0,0 +1,25 @@
+package com.vivek.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Throughput and latency at one concurrency level
+ *
+ * speedup and efficiency are relative to the first (lowest) level, so the
+ * knee shows up as efficiency dropping away from 1.0.
+ */
+@Data
+@Builder
+public class LoadLevelResult {
+    private int concurrency;
+    private long recordsProcessed;
+    private long wallClockMs;
+    private double rowsPerSecond;
+    private double rowsPerSecondPerWorker;
+    private double speedup;
+    private double efficiency;
+    private int failedWorkers;
+    private LatencyPercentiles batchLatency;
+    private LatencyPercentiles recordLatency;
+}
@@ -0,0 +1,35 @@
+package com.vivek.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings for a concurrent load run
+ *
+ * Each concurrency level starts that many workers at once; every worker runs
+ * the same insert or delete workload on its own connection and transaction.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestOptions {
+
+    private BenchmarkOperation operation;
+
+    private List<Integer> concurrencyLevels;
+
+    private int recordsPerWorker;
+
+    private int batchSize;
+
+    @Builder.Default
+    private OperationOptions operationOptions = OperationOptions.defaults();
+}
@@ -0,0 +1,21 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class LoadTestResult {
+    private String operationId;
+    private BenchmarkOperation operation;
+    private String strategy;
+    private int batchSize;
+    private int recordsPerWorker;
+    private int connectionPoolSize;
+    private List<LoadLevelResult> levels;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
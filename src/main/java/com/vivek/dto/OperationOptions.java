@@ -0,0 +1,81 @@
+package com.vivek.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-run tuning knobs for insert and delete operations
+ *
+ * Every field has a default that reproduces the original behaviour, so callers
+ * only set what they want to compare. The one exception is
+ * clearPersistenceContext: JPA batch inserts now flush and clear at every
+ * batch by default, and false restores the original single flush at commit.
+ *
+ * The controllers bind request parameters onto these fields by name, so a
+ * new option is available on every run endpoint once it is added here.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperationOptions {
+
+    @Builder.Default
+    private InsertStrategy insertStrategy = InsertStrategy.JPA_BATCH;
+
+    @Builder.Default
+    private IdStrategy idStrategy = IdStrategy.IDENTITY;
+
+    @Builder.Default
+    private DeleteStrategy deleteStrategy = DeleteStrategy.IN_LIST;
+
+    @Builder.Default
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+
+    // Flush and clear the EntityManager after every JPA insert batch
+    @Builder.Default
+    private boolean clearPersistenceContext = true;
+
+    // Batches per commit; 0 = one transaction for the whole operation,
+    // null = operation default (inserts: 0, deletes: 1)
+    @Min(value = 0, message = "Commit interval cannot be negative")
+    private Integer commitInterval;
+
+    // SET LOCAL synchronous_commit = off in every transaction of the run
+    @Builder.Default
+    private boolean asynchronousCommit = false;
+
+    // UNLOGGED requires a JDBC engine (JDBC_BATCH / COPY inserts, ANY_ARRAY deletes)
+    @Builder.Default
+    private TargetTable targetTable = TargetTable.STANDARD;
+
+    // Run JDBC_BATCH on the pool with PgJDBC reWriteBatchedInserts=true
+    @Builder.Default
+    private boolean driverRewrite = false;
+
+    // FAST keeps row generation out of the measured time and the GC numbers
+    @Builder.Default
+    private RecordGenerator recordGenerator = RecordGenerator.STANDARD;
+
+    // Capture a JDK Flight Recorder recording of the run to {operationId}.jfr
+    @Builder.Default
+    private boolean jfrRecording = false;
+
+    // EXPLAIN (ANALYZE, BUFFERS, WAL) one representative batch in a rolled-back savepoint
+    @Builder.Default
+    private boolean explainBatch = false;
+
+    // WAL and table/index block deltas; waits for the statistics flush before returning
+    @Builder.Default
+    private boolean databaseIoAccounting = false;
+
+    public static OperationOptions defaults() {
+        return OperationOptions.builder().build();
+    }
+}
@@ -9,6 +9,15 @@ import lombok.Data;
 @Builder
 public class PerformanceResult {
     private String testType;
+    private String strategy;
+    private String idStrategy;
+    private String executionMode;
+    private Integer commitInterval;
+    private Integer transactionsCommitted;
+    private String targetTable;
+    private boolean asynchronousCommit;
+    private Boolean driverRewrite;
+    private String recordGenerator;
     private int batchSize;
     private int recordsProcessed;
     private long durationMs;
@@ -16,6 +25,16 @@ public class PerformanceResult {
     private long memoryUsedMB;
     private double recordsPerSecond;
     private int batchCount;
+    private LatencyPercentiles batchLatency;
+    private LatencyPercentiles recordLatency;
+    private HibernateStatisticsDelta hibernateStatistics;
+    private ResourceUsage resourceUsage;
+    private DatabaseIoUsage databaseIo;
+    private ExplainPlanSummary explainPlan;
+    // File name of the run's JFR recording, when one was requested
+    private String jfrRecording;
+    private Boolean persistenceContextCleared;
+    private Integer peakManagedEntities;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String operationId;
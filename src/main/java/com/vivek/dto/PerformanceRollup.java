@@ -0,0 +1,35 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Aggregated run history for one time bucket, test type, strategy and batch
+ * size
+ */
+@Data
+@Builder
+public class PerformanceRollup {
+    private LocalDateTime bucketStart;
+    private String testType;
+    private String strategy;
+    private String idStrategy;
+    private String executionMode;
+    private Integer commitInterval;
+    private String targetTable;
+    private Boolean asynchronousCommit;
+    private Boolean driverRewrite;
+    private String recordGenerator;
+    private int batchSize;
+    private long runCount;
+    private double avgRecordsPerSecond;
+    private double medianRecordsPerSecond;
+    private double minRecordsPerSecond;
+    private double maxRecordsPerSecond;
+    private Double avgBatchP99Ms;
+    private Double avgAllocatedBytesPerRecord;
+    private Double avgCpuMsPerRecord;
+    private Double avgWalBytesPerRow;
+}
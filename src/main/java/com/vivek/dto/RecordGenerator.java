@@ -0,0 +1,19 @@
+package com.vivek.dto;
+
+/**
+ * How test rows are generated before they are handed to an insert engine
+ */
+public enum RecordGenerator {
+
+    /**
+     * Original generator: random UUID, string concatenation and a
+     * LocalDateTime.now() JSON timestamp per row
+     */
+    STANDARD,
+
+    /**
+     * Allocation-light generator with precomputed pools, a reused per-thread
+     * builder and ThreadLocalRandom
+     */
+    FAST
+}
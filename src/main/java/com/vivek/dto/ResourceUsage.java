@@ -0,0 +1,32 @@
+package com.vivek.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JVM resources consumed by one run
+ *
+ * Allocation and CPU time belong to the thread that drove the run, so they
+ * are exact for sequential runs and null when the work happened on other
+ * threads (virtual-thread runs) or the JVM cannot measure them. GC counts and
+ * peak heap are JVM wide and include any concurrent work.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceUsage {
+    private Long allocatedBytes;
+    private Double allocatedBytesPerRecord;
+    private Double cpuTimeMs;
+    private Double cpuMsPerRecord;
+    private long gcCount;
+    private long gcTimeMs;
+    // Sum of per-pool heap peaks since the run started; an upper bound
+    private long peakHeapUsedMb;
+}
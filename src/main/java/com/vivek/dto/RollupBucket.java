@@ -0,0 +1,14 @@
+package com.vivek.dto;
+
+/**
+ * Time bucket for history rollups (argument to PostgreSQL date_trunc)
+ */
+public enum RollupBucket {
+    HOUR,
+    DAY,
+    WEEK;
+
+    public String sqlUnit() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,19 @@
+package com.vivek.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One batch size of a sweep, shaped like the client's ChartDataPoint
+ * (insert/delete are rows per second)
+ */
+@Data
+@Builder
+public class SweepPoint {
+    private String name;
+    private int batchSize;
+    private double insert;
+    private double delete;
+    private double insertP99Ms;
+    private double deleteP99Ms;
+}
@@ -0,0 +1,23 @@
+package com.vivek.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SweepResult {
+    private String operationId;
+    private int totalRecords;
+    private String insertStrategy;
+    private String deleteStrategy;
+    private List<Integer> batchSizes;
+    private List<Integer> skippedBatchSizes;
+    private List<SweepPoint> points;
+    // Every individual run, ordered by batch size (insert before delete)
+    private List<PerformanceResult> results;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,28 @@
+package com.vivek.dto;
+
+/**
+ * Table a performance run writes to or deletes from
+ */
+public enum TargetTable {
+
+    /**
+     * performance_test_records, WAL-logged and crash safe
+     */
+    STANDARD("performance_test_records"),
+
+    /**
+     * UNLOGGED clone of performance_test_records with the same columns and
+     * indexes; no WAL is written and the table is emptied after a crash
+     */
+    UNLOGGED("performance_test_records_unlogged");
+
+    private final String tableName;
+
+    TargetTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,23 @@
+package com.vivek.dto;
+
+/**
+ * Secondary indexes on performance_test_records that an index-maintenance
+ * experiment may drop and rebuild (the primary key is never touched)
+ */
+public enum TestRecordIndex {
+    IDX_TEST_ID("idx_test_id"),
+    IDX_CATEGORY("idx_category"),
+    IDX_CREATED_AT("idx_created_at"),
+    IDX_COMPOSITE("idx_composite"),
+    IDX_IS_ACTIVE("idx_is_active");
+
+    private final String indexName;
+
+    TestRecordIndex(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public String indexName() {
+        return indexName;
+    }
+}
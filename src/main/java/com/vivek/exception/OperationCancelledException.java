@@ -0,0 +1,13 @@
+package com.vivek.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown between batches when a running operation has been cancelled
+ */
+public class OperationCancelledException extends PerformanceTestException {
+
+    public OperationCancelledException(String message, Object... args) {
+        super("OPERATION_CANCELLED", String.format(message, args), HttpStatus.CONFLICT, args);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
 
 import com.vivek.repository.PerformanceTestRepository;
+import com.vivek.service.RecordCountTracker;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +40,9 @@ public class DatabaseHealthIndicator implements HealthIndicator {
     @Autowired
     private PerformanceTestRepository repository;
 
+    @Autowired
+    private RecordCountTracker recordCountTracker;
+
     @Override
     public Health health() {
         try {
@@ -76,8 +80,8 @@ public class DatabaseHealthIndicator implements HealthIndicator {
 
             // Test application-specific functionality
             try {
-                Long recordCount = repository.getTotalRecordCount();
-                details.put("totalRecords", recordCount != null ? recordCount : 0);
+                // Catalog-based estimate: health checks must not scan the table
+                details.put("totalRecords", recordCountTracker.estimate());
 
                 // Test a simple query performance
                 long queryStart = System.currentTimeMillis();
@@ -234,24 +238,21 @@ class PerformanceHealthIndicator implements HealthIndicator {
     @Autowired
     private PerformanceTestRepository repository;
 
+    @Autowired
+    private RecordCountTracker recordCountTracker;
+
     @Override
     public Health health() {
         Map<String, Object> details = new HashMap<>();
 
         try {
-            // Test database performance
-            long startTime = System.currentTimeMillis();
-
-            // Simple count query
-            Long totalRecords = repository.getTotalRecordCount();
-            long countQueryTime = System.currentTimeMillis() - startTime;
-
+            // Catalog-based estimate instead of a full COUNT; served from memory, so not timed
             details.put("database", Map.of(
-                    "totalRecords", totalRecords != null ? totalRecords : 0,
-                    "countQueryTime", countQueryTime + "ms"));
+                    "totalRecords", recordCountTracker.estimate(),
+                    "totalRecordsExact", false));
 
-            // Test more complex query
-            startTime = System.currentTimeMillis();
+            // Test database performance
+            long startTime = System.currentTimeMillis();
             try {
                 String tableSize = repository.getTableSize();
                 long complexQueryTime = System.currentTimeMillis() - startTime;
@@ -261,7 +262,7 @@ class PerformanceHealthIndicator implements HealthIndicator {
                         "complexQueryTime", complexQueryTime + "ms"));
 
                 // Performance thresholds
-                if (countQueryTime > 1000 || complexQueryTime > 2000) {
+                if (complexQueryTime > 2000) {
                     return Health.down()
                             .status("DEGRADED")
                             .withDetails(details)
@@ -0,0 +1,63 @@
+package com.vivek.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event emitted at the end of every insert or delete
+ * batch
+ *
+ * Emitting is close to free when no recording is running, so batches are
+ * always instrumented; any recording (per-run or started with
+ * -XX:StartFlightRecording) picks them up. Filter on operationId to isolate
+ * one run.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Name("com.vivek.performance.Batch")
+@Label("Performance Batch")
+@Category({ "Batch Operation Visualization", "Performance" })
+@Description("One insert or delete batch of a performance run")
+@StackTrace(false)
+public class BatchEvent extends Event {
+
+    @Label("Operation Id")
+    String operationId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Batch Index")
+    int batchIndex;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Batch Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long batchDuration;
+
+    @Label("Rows Affected")
+    int rowsAffected;
+
+    public static void emit(String operationId, String operation, int batchIndex, int batchSize,
+            long batchDurationNanos, int rowsAffected) {
+        BatchEvent event = new BatchEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.operationId = operationId;
+        event.operation = operation;
+        event.batchIndex = batchIndex;
+        event.batchSize = batchSize;
+        event.batchDuration = batchDurationNanos;
+        event.rowsAffected = rowsAffected;
+        event.commit();
+    }
+}
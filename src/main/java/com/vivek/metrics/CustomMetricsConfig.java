@@ -1,14 +1,16 @@
 package com.vivek.metrics;
 
 import java.sql.Connection;
-import java.util.concurrent.atomic.AtomicLong;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
 
 import com.vivek.repository.PerformanceTestRepository;
+import com.vivek.service.RecordCountTracker;
 
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -37,8 +39,10 @@ public class CustomMetricsConfig {
      * Database Performance Metrics
      */
     @Bean
-    public MeterBinder databaseMetrics(DataSource dataSource, PerformanceTestRepository repository) {
-        return new DatabaseMetrics(dataSource, repository);
+    public MeterBinder databaseMetrics(DataSource dataSource, PerformanceTestRepository repository,
+            RecordCountTracker recordCountTracker,
+            @Value("${performance.test.metrics.enable-database-metrics:true}") boolean enabled) {
+        return new DatabaseMetrics(dataSource, repository, recordCountTracker, enabled);
     }
 
     /**
@@ -56,98 +60,142 @@ public class CustomMetricsConfig {
 
 /**
  * Database-specific metrics
+ *
+ * Gauges read cached values only; a background refresh runs the underlying
+ * queries on its own schedule, so a scrape never touches the database.
+ * database.metrics.staleness reports how old the cached values are.
  */
 @Slf4j
 class DatabaseMetrics implements MeterBinder {
 
     private final DataSource dataSource;
     private final PerformanceTestRepository repository;
-    private final AtomicLong lastRecordCount = new AtomicLong(0);
-    private final AtomicLong connectionTestTime = new AtomicLong(0);
-
-    public DatabaseMetrics(DataSource dataSource, PerformanceTestRepository repository) {
+    private final RecordCountTracker recordCountTracker;
+    private final boolean enabled;
+
+    // Cached values, written only by refresh()
+    private volatile double recordCount = Double.NaN;
+    private volatile double connectionTestTime = Double.NaN;
+    private volatile double tableSizeBytes = Double.NaN;
+    private volatile double activeConnectionCount = Double.NaN;
+    private volatile double databaseHealthStatus = Double.NaN;
+    private volatile long lastRefreshMillis;
+
+    public DatabaseMetrics(DataSource dataSource, PerformanceTestRepository repository,
+            RecordCountTracker recordCountTracker, boolean enabled) {
         this.dataSource = dataSource;
         this.repository = repository;
+        this.recordCountTracker = recordCountTracker;
+        this.enabled = enabled;
     }
 
     @Override
     public void bindTo(MeterRegistry registry) {
         // Database record count gauge
-        Gauge.builder("database.records.total", this::getRecordCount)
-                .description("Total number of records in the database")
+        Gauge.builder("database.records.total", () -> recordCount)
+                .description("Estimated number of records in the table (catalog statistics)")
                 .tag("table", "performance_test_records")
                 .register(registry);
 
-        Gauge.builder("database.connection.test.time", this::getConnectionTestTime)
+        Gauge.builder("database.connection.test.time", () -> connectionTestTime)
                 .description("Time taken to test database connection")
                 .baseUnit("milliseconds")
                 .register(registry);
 
-        Gauge.builder("database.table.size.bytes", this::getTableSizeBytes)
+        Gauge.builder("database.table.size.bytes", () -> tableSizeBytes)
                 .description("Size of the main table in bytes")
                 .tag("table", "performance_test_records")
                 .register(registry);
 
-        Gauge.builder("database.connections.active", this::getActiveConnectionCount)
+        Gauge.builder("database.connections.active", () -> activeConnectionCount)
                 .description("Number of active database connections")
                 .register(registry);
 
-        Gauge.builder("database.health.status", this::getDatabaseHealthStatus)
+        Gauge.builder("database.health.status", () -> databaseHealthStatus)
                 .description("Database health status (1=healthy, 0=unhealthy)")
                 .register(registry);
+
+        Gauge.builder("database.metrics.staleness", this::getStalenessSeconds)
+                .description("Age of the cached database metrics")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Re-sample every database gauge; a failing query keeps its previous value
+     */
+    @Scheduled(fixedDelayString = "${performance.test.metrics.database-refresh-interval:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        databaseHealthStatus = sampleDatabaseHealthStatus();
+        if (databaseHealthStatus == 0.0) {
+            log.warn("Database unreachable, keeping previous metric values");
+            return;
+        }
+
+        connectionTestTime = sampleConnectionTestTime(connectionTestTime);
+        recordCount = sampleRecordCount(recordCount);
+        tableSizeBytes = sampleTableSizeBytes(tableSizeBytes);
+        activeConnectionCount = sampleActiveConnectionCount(activeConnectionCount);
+        lastRefreshMillis = System.currentTimeMillis();
+
+        log.debug("📊 Database metrics refreshed in {} ms", lastRefreshMillis - startTime);
+    }
+
+    private double getStalenessSeconds() {
+        long refreshedAt = lastRefreshMillis;
+        return refreshedAt == 0 ? Double.NaN : (System.currentTimeMillis() - refreshedAt) / 1000.0;
     }
 
-    private double getRecordCount() {
+    private double sampleRecordCount(double previous) {
         try {
-            Long count = repository.getTotalRecordCount();
-            if (count != null) {
-                lastRecordCount.set(count);
-                return count.doubleValue();
-            }
+            return recordCountTracker.estimate();
         } catch (Exception e) {
             log.warn("Failed to get record count for metrics: {}", e.getMessage());
         }
-        return lastRecordCount.get();
+        return previous;
     }
 
-    private double getConnectionTestTime() {
+    private double sampleConnectionTestTime(double previous) {
         try {
             long startTime = System.currentTimeMillis();
             try (Connection connection = dataSource.getConnection()) {
                 connection.isValid(1);
             }
-            long testTime = System.currentTimeMillis() - startTime;
-            connectionTestTime.set(testTime);
-            return testTime;
+            return System.currentTimeMillis() - startTime;
         } catch (Exception e) {
             log.warn("Failed to test database connection for metrics: {}", e.getMessage());
-            return -1.0;
+            return previous;
         }
     }
 
-    private double getTableSizeBytes() {
+    private double sampleTableSizeBytes(double previous) {
         try {
-            String sizeStr = repository.getTableSize();
-            if (sizeStr != null && !sizeStr.equals("N/A")) {
-                return parseSizeToBytes(sizeStr);
+            Long sizeBytes = repository.getTableSizeBytes();
+            if (sizeBytes != null) {
+                return sizeBytes.doubleValue();
             }
         } catch (Exception e) {
             log.warn("Failed to get table size for metrics: {}", e.getMessage());
         }
-        return 0.0;
+        return previous;
     }
 
-    private double getActiveConnectionCount() {
+    private double sampleActiveConnectionCount(double previous) {
         try {
             Integer count = repository.getActiveConnectionCount();
-            return count != null ? count.doubleValue() : 0.0;
+            return count != null ? count.doubleValue() : previous;
         } catch (Exception e) {
             log.warn("Failed to get active connection count for metrics: {}", e.getMessage());
-            return 0.0;
+            return previous;
         }
     }
 
-    private double getDatabaseHealthStatus() {
+    private double sampleDatabaseHealthStatus() {
         try {
             repository.testConnection();
             return 1.0; // Healthy
@@ -155,25 +203,4 @@ class DatabaseMetrics implements MeterBinder {
             return 0.0; // Unhealthy
         }
     }
-
-    private double parseSizeToBytes(String sizeStr) {
-        try {
-            String[] parts = sizeStr.trim().split("\\s+");
-            if (parts.length == 2) {
-                double value = Double.parseDouble(parts[0]);
-                String unit = parts[1].toLowerCase();
-
-                return switch (unit) {
-                    case "bytes", "b" -> value;
-                    case "kb" -> value * 1024;
-                    case "mb" -> value * 1024 * 1024;
-                    case "gb" -> value * 1024 * 1024 * 1024;
-                    default -> 0.0;
-                };
-            }
-        } catch (Exception e) {
-            log.warn("Failed to parse size string '{}': {}", sizeStr, e.getMessage());
-        }
-        return 0.0;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.vivek.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Column mappings shared by every entity that writes to
+ * performance_test_records
+ *
+ * Subclasses only differ in how the primary key is generated, which lets a
+ * run pick its id strategy without duplicating the column definitions.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@MappedSuperclass
+@Data
+@SuperBuilder
+@NoArgsConstructor
+public abstract class AbstractPerformanceTestRecord {
+
+        @Column(name = "test_id", nullable = false)
+        private String testId;
+
+        @Column(name = "category", nullable = false, length = 50)
+        private String category;
+
+        @Column(name = "description", length = 500)
+        private String description;
+
+        @Column(name = "numeric_value")
+        private Long numericValue;
+
+        @Column(name = "string_value", length = 255)
+        private String stringValue;
+
+        @Column(name = "json_data", columnDefinition = "TEXT")
+        private String jsonData;
+
+        @Column(name = "is_active")
+        @Builder.Default
+        private Boolean isActive = true;
+
+        @Column(name = "priority")
+        @Builder.Default
+        private Integer priority = 1;
+
+        @Column(name = "tags", length = 1000)
+        private String tags;
+
+        @CreationTimestamp
+        @Column(name = "created_at", nullable = false, updatable = false)
+        private LocalDateTime createdAt;
+
+        @UpdateTimestamp
+        @Column(name = "updated_at")
+        private LocalDateTime updatedAt;
+
+        @Version
+        private Long version;
+
+        /**
+         * Fill this record with the standard generated test data for the given
+         * index
+         */
+        public void applyTestData(int index) {
+                setTestId(UUID.randomUUID().toString());
+                setCategory("BATCH_TEST_" + (index % 10));
+                setDescription("Performance test record number " + index + " for batch deletion testing");
+                setNumericValue((long) (Math.random() * 1000000));
+                setStringValue("TestData_" + index + "_" + System.currentTimeMillis());
+                setJsonData("{\"index\":" + index + ",\"timestamp\":\"" + LocalDateTime.now()
+                                + "\",\"metadata\":{\"batch\":true,\"test\":true}}");
+                setIsActive(index % 10 != 0); // 10% inactive records
+                setPriority(index % 5 + 1); // Priority 1-5
+                setTags("performance,batch,test,index_" + index);
+        }
+}
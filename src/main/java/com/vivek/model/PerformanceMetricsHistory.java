@@ -0,0 +1,137 @@
+package com.vivek.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One completed insert or delete run, kept for long-term trend analysis
+ *
+ * Maps performance_metrics_history from init-performance-tables.sql.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "performance_metrics_history", indexes = {
+                @Index(name = "idx_metrics_test_type", columnList = "test_type"),
+                @Index(name = "idx_metrics_created_at", columnList = "created_at"),
+                @Index(name = "idx_metrics_batch_size", columnList = "batch_size")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PerformanceMetricsHistory {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "test_type", nullable = false, length = 50)
+        private String testType;
+
+        @Column(name = "strategy", length = 30)
+        private String strategy;
+
+        @Column(name = "id_strategy", length = 30)
+        private String idStrategy;
+
+        @Column(name = "execution_mode", length = 20)
+        private String executionMode;
+
+        @Column(name = "commit_interval")
+        private Integer commitInterval;
+
+        @Column(name = "target_table", length = 20)
+        private String targetTable;
+
+        @Column(name = "asynchronous_commit")
+        private Boolean asynchronousCommit;
+
+        @Column(name = "driver_rewrite")
+        private Boolean driverRewrite;
+
+        @Column(name = "record_generator", length = 20)
+        private String recordGenerator;
+
+        @Column(name = "operation_id", length = 100)
+        private String operationId;
+
+        @Column(name = "batch_size", nullable = false)
+        private Integer batchSize;
+
+        @Column(name = "records_processed", nullable = false)
+        private Integer recordsProcessed;
+
+        @Column(name = "duration_ms", nullable = false)
+        private Long durationMs;
+
+        @Column(name = "average_time_per_record", nullable = false, precision = 10, scale = 4)
+        private BigDecimal averageTimePerRecord;
+
+        @Column(name = "memory_used_mb", nullable = false)
+        private Long memoryUsedMb;
+
+        @Column(name = "records_per_second", nullable = false, precision = 10, scale = 2)
+        private BigDecimal recordsPerSecond;
+
+        @Column(name = "batch_count", nullable = false)
+        private Integer batchCount;
+
+        @Column(name = "batch_p50_ms", precision = 12, scale = 3)
+        private BigDecimal batchP50Ms;
+
+        @Column(name = "batch_p99_ms", precision = 12, scale = 3)
+        private BigDecimal batchP99Ms;
+
+        @Column(name = "allocated_bytes_per_record", precision = 14, scale = 2)
+        private BigDecimal allocatedBytesPerRecord;
+
+        @Column(name = "cpu_ms_per_record", precision = 12, scale = 6)
+        private BigDecimal cpuMsPerRecord;
+
+        @Column(name = "gc_count")
+        private Long gcCount;
+
+        @Column(name = "gc_time_ms")
+        private Long gcTimeMs;
+
+        @Column(name = "peak_heap_mb")
+        private Long peakHeapMb;
+
+        @Column(name = "wal_bytes")
+        private Long walBytes;
+
+        @Column(name = "wal_bytes_per_row", precision = 12, scale = 2)
+        private BigDecimal walBytesPerRow;
+
+        @Column(name = "shared_blocks_hit")
+        private Long sharedBlocksHit;
+
+        @Column(name = "shared_blocks_read")
+        private Long sharedBlocksRead;
+
+        @Column(name = "start_time", nullable = false)
+        private LocalDateTime startTime;
+
+        @Column(name = "end_time", nullable = false)
+        private LocalDateTime endTime;
+
+        @CreationTimestamp
+        @Column(name = "created_at", updatable = false)
+        private LocalDateTime createdAt;
+}
@@ -0,0 +1,61 @@
+package com.vivek.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Sequence-backed view of performance_test_records
+ *
+ * IDENTITY ids are only known after each INSERT executes, which forces
+ * Hibernate to send one statement per row. This mapping draws ids from a
+ * pooled sequence instead (one nextval per {@link #ALLOCATION_SIZE} rows), so
+ * hibernate.jdbc.batch_size applies to inserts.
+ *
+ * The sequence starts far above the IDENTITY range so both mappings can write
+ * to the same table without colliding.
+ *
+ * Both entities map one table, so schema generation (ddl-auto create-drop or
+ * update) sees two definitions of id. This one spells out the identity column
+ * so the generated DDL is the same whichever entity Hibernate binds first;
+ * explicit sequence ids are accepted by a GENERATED BY DEFAULT column. The
+ * indexes are declared only on {@link PerformanceTestRecord}.
+ *
+ * The mapping is write-only: rows are never loaded or queried through it, so
+ * the persistence context never holds the same row as two types. Hibernate
+ * statistics do report its inserts under this entity name.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "performance_test_records")
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+public class PerformancePooledTestRecord extends AbstractPerformanceTestRecord {
+
+        public static final String SEQUENCE_NAME = "performance_test_records_pooled_seq";
+        public static final int ALLOCATION_SIZE = 50;
+
+        @Id
+        @Column(name = "id", columnDefinition = "bigint generated by default as identity")
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "performance_test_records_pooled")
+        @SequenceGenerator(name = "performance_test_records_pooled", sequenceName = SEQUENCE_NAME, initialValue = 1000000001, allocationSize = ALLOCATION_SIZE)
+        private Long id;
+
+        public static PerformancePooledTestRecord createTestRecord(int index) {
+                PerformancePooledTestRecord record = new PerformancePooledTestRecord();
+                record.applyTestData(index);
+                return record;
+        }
+}
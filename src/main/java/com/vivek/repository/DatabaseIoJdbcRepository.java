@@ -0,0 +1,64 @@
+package com.vivek.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL WAL position and table I/O counters
+ *
+ * Provides:
+ * - The current WAL insert LSN and byte distance between two LSNs
+ * - Cumulative heap and index block hits/reads for one table
+ *   (pg_statio_user_tables)
+ *
+ * Each call runs on its own connection (outside any run transaction), so
+ * snapshots never add work to the measured transactions.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public class DatabaseIoJdbcRepository {
+
+    private static final String WAL_INSERT_LSN_SQL = "SELECT pg_current_wal_insert_lsn()::text";
+
+    private static final String WAL_BYTES_SQL = "SELECT pg_wal_lsn_diff(?::pg_lsn, ?::pg_lsn)::bigint";
+
+    private static final String TABLE_BLOCKS_SQL = """
+            SELECT COALESCE(heap_blks_hit, 0) AS heap_blks_hit,
+                   COALESCE(heap_blks_read, 0) AS heap_blks_read,
+                   COALESCE(idx_blks_hit, 0) AS idx_blks_hit,
+                   COALESCE(idx_blks_read, 0) AS idx_blks_read
+            FROM pg_statio_user_tables
+            WHERE relid = to_regclass(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseIoJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String currentWalInsertLsn() {
+        return jdbcTemplate.queryForObject(WAL_INSERT_LSN_SQL, String.class);
+    }
+
+    public long walBytesBetween(String startLsn, String endLsn) {
+        Long bytes = jdbcTemplate.queryForObject(WAL_BYTES_SQL, Long.class, endLsn, startLsn);
+        return bytes != null ? bytes : 0L;
+    }
+
+    /**
+     * Cumulative block counters for the table; zeros when the table has no
+     * statistics yet
+     */
+    public TableBlockCounters tableBlocks(String tableName) {
+        return jdbcTemplate.query(TABLE_BLOCKS_SQL, rs -> rs.next()
+                ? new TableBlockCounters(rs.getLong("heap_blks_hit"), rs.getLong("heap_blks_read"),
+                        rs.getLong("idx_blks_hit"), rs.getLong("idx_blks_read"))
+                : new TableBlockCounters(0L, 0L, 0L, 0L), tableName);
+    }
+
+    public record TableBlockCounters(long heapHit, long heapRead, long indexHit, long indexRead) {
+    }
+}
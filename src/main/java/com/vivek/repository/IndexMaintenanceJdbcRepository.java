@@ -0,0 +1,78 @@
+package com.vivek.repository;
+
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Index DDL for the index-maintenance experiment
+ *
+ * Provides:
+ * - The CREATE INDEX definition of an existing index (pg_indexes)
+ * - Whether an index exists and is valid (a failed CONCURRENTLY build leaves
+ *   an invalid index behind)
+ * - DROP INDEX, CREATE INDEX and CREATE INDEX CONCURRENTLY
+ *
+ * Each call runs on its own auto-commit connection, which CREATE INDEX
+ * CONCURRENTLY requires; never call these methods inside a transaction.
+ * Index names come from {@link com.vivek.dto.TestRecordIndex}, never from
+ * request input.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public class IndexMaintenanceJdbcRepository {
+
+    private static final String INDEX_DEFINITION_SQL = """
+            SELECT indexdef
+            FROM pg_indexes
+            WHERE schemaname = current_schema() AND tablename = ? AND indexname = ?
+            """;
+
+    private static final String INDEX_VALID_SQL = """
+            SELECT i.indisvalid
+            FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            WHERE c.relname = ? AND c.relnamespace = current_schema()::regnamespace
+            """;
+
+    private static final String DROP_INDEX_SQL = "DROP INDEX IF EXISTS %s";
+
+    private static final String CREATE_INDEX_PREFIX = "^CREATE (UNIQUE )?INDEX ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IndexMaintenanceJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<String> indexDefinition(String tableName, String indexName) {
+        return jdbcTemplate.queryForList(INDEX_DEFINITION_SQL, String.class, tableName, indexName)
+                .stream().findFirst();
+    }
+
+    /**
+     * Empty when the index does not exist
+     */
+    public Optional<Boolean> isIndexValid(String indexName) {
+        return jdbcTemplate.queryForList(INDEX_VALID_SQL, Boolean.class, indexName).stream().findFirst();
+    }
+
+    public void dropIndex(String indexName) {
+        jdbcTemplate.execute(String.format(DROP_INDEX_SQL, indexName));
+    }
+
+    public void createIndex(String definition) {
+        jdbcTemplate.execute(definition);
+    }
+
+    /**
+     * Rewrites a pg_indexes definition into its CONCURRENTLY form, so the
+     * build does not block writers
+     */
+    public void createIndexConcurrently(String definition) {
+        jdbcTemplate.execute(definition.replaceFirst(CREATE_INDEX_PREFIX, "CREATE $1INDEX CONCURRENTLY "));
+    }
+}
@@ -0,0 +1,117 @@
+package com.vivek.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.vivek.dto.PerformanceRollup;
+import com.vivek.dto.RollupBucket;
+
+/**
+ * PostgreSQL-specific aggregate queries over performance_metrics_history
+ *
+ * Provides:
+ * - Time-bucketed throughput rollups (mean, median, min, max)
+ * - Tail latency trend per bucket
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public class PerformanceMetricsHistoryJdbcRepository {
+
+    private static final String ROLLUP_SQL = """
+            SELECT date_trunc(?, created_at) AS bucket_start,
+                   test_type,
+                   strategy,
+                   id_strategy,
+                   execution_mode,
+                   commit_interval,
+                   target_table,
+                   asynchronous_commit,
+                   driver_rewrite,
+                   record_generator,
+                   batch_size,
+                   COUNT(*) AS run_count,
+                   AVG(records_per_second) AS avg_rps,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY records_per_second) AS median_rps,
+                   MIN(records_per_second) AS min_rps,
+                   MAX(records_per_second) AS max_rps,
+                   AVG(batch_p99_ms) AS avg_batch_p99_ms,
+                   AVG(allocated_bytes_per_record) AS avg_allocated_bytes_per_record,
+                   AVG(cpu_ms_per_record) AS avg_cpu_ms_per_record,
+                   AVG(wal_bytes_per_row) AS avg_wal_bytes_per_row
+            FROM performance_metrics_history
+            WHERE created_at >= ?
+            """;
+
+    private static final String ROLLUP_GROUPING = """
+            GROUP BY 1, test_type, strategy, id_strategy, execution_mode, commit_interval, target_table,
+                     asynchronous_commit, driver_rewrite, record_generator, batch_size
+            ORDER BY 1, test_type, strategy, id_strategy, execution_mode, commit_interval, target_table,
+                     asynchronous_commit, driver_rewrite, record_generator, batch_size
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PerformanceMetricsHistoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Aggregate runs since the given time into buckets; a null test type
+     * includes every type
+     */
+    public List<PerformanceRollup> rollup(RollupBucket bucket, LocalDateTime since, String testType) {
+        List<Object> args = new ArrayList<>();
+        args.add(bucket.sqlUnit());
+        args.add(Timestamp.valueOf(since));
+
+        StringBuilder sql = new StringBuilder(ROLLUP_SQL);
+        if (testType != null) {
+            sql.append("AND test_type = ?\n");
+            args.add(testType);
+        }
+        sql.append(ROLLUP_GROUPING);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> mapRollup(rs), args.toArray());
+    }
+
+    private PerformanceRollup mapRollup(ResultSet rs) throws SQLException {
+        double avgBatchP99Ms = rs.getDouble("avg_batch_p99_ms");
+        boolean noLatencyData = rs.wasNull();
+        return PerformanceRollup.builder()
+                .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+                .testType(rs.getString("test_type"))
+                .strategy(rs.getString("strategy"))
+                .idStrategy(rs.getString("id_strategy"))
+                .executionMode(rs.getString("execution_mode"))
+                .commitInterval(rs.getObject("commit_interval", Integer.class))
+                .targetTable(rs.getString("target_table"))
+                .asynchronousCommit(rs.getObject("asynchronous_commit", Boolean.class))
+                .driverRewrite(rs.getObject("driver_rewrite", Boolean.class))
+                .recordGenerator(rs.getString("record_generator"))
+                .batchSize(rs.getInt("batch_size"))
+                .runCount(rs.getLong("run_count"))
+                .avgRecordsPerSecond(rs.getDouble("avg_rps"))
+                .medianRecordsPerSecond(rs.getDouble("median_rps"))
+                .minRecordsPerSecond(rs.getDouble("min_rps"))
+                .maxRecordsPerSecond(rs.getDouble("max_rps"))
+                .avgBatchP99Ms(noLatencyData ? null : avgBatchP99Ms)
+                .avgAllocatedBytesPerRecord(nullableDouble(rs, "avg_allocated_bytes_per_record"))
+                .avgCpuMsPerRecord(nullableDouble(rs, "avg_cpu_ms_per_record"))
+                .avgWalBytesPerRow(nullableDouble(rs, "avg_wal_bytes_per_row"))
+                .build();
+    }
+
+    private Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
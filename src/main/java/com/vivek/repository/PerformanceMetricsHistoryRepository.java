@@ -0,0 +1,52 @@
+package com.vivek.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivek.model.PerformanceMetricsHistory;
+
+/**
+ * Repository for persisted run history
+ *
+ * Provides:
+ * - Filtered, paged history queries
+ * - Retention purge
+ *
+ * Time-bucketed rollups live in {@link PerformanceMetricsHistoryJdbcRepository}.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public interface PerformanceMetricsHistoryRepository extends JpaRepository<PerformanceMetricsHistory, Long> {
+
+        // ===== QUERY OPERATIONS =====
+
+        /**
+         * Runs since the given time, newest first; null filters match everything
+         */
+        @Query("""
+                        SELECT h FROM PerformanceMetricsHistory h
+                        WHERE h.createdAt >= :since
+                        AND (:testType IS NULL OR h.testType = :testType)
+                        AND (:batchSize IS NULL OR h.batchSize = :batchSize)
+                        ORDER BY h.createdAt DESC
+                        """)
+        Page<PerformanceMetricsHistory> findHistory(@Param("since") LocalDateTime since,
+                        @Param("testType") String testType, @Param("batchSize") Integer batchSize, Pageable pageable);
+
+        // ===== MAINTENANCE =====
+
+        @Modifying
+        @Transactional(timeout = 120)
+        @Query("DELETE FROM PerformanceMetricsHistory h WHERE h.createdAt < :cutoff")
+        int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
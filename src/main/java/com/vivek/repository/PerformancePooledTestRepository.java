@@ -0,0 +1,19 @@
+package com.vivek.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.vivek.model.PerformancePooledTestRecord;
+
+/**
+ * Repository for records inserted with pooled sequence ids
+ *
+ * Shares performance_test_records with {@link PerformanceTestRepository};
+ * only used on the insert path so Hibernate can batch INSERT statements.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public interface PerformancePooledTestRepository extends JpaRepository<PerformancePooledTestRecord, Long> {
+}
@@ -0,0 +1,407 @@
+package com.vivek.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivek.dto.TargetTable;
+import com.vivek.model.PerformanceTestRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plain JDBC operations for Performance Test Records
+ *
+ * Complements {@link PerformanceTestRepository} with driver-level operations
+ * that JPA cannot express:
+ * - PostgreSQL COPY FROM STDIN bulk loading
+ * - Prepared-statement batch inserts without entity state, optionally on the
+ *   secondary pool where PgJDBC rewrites batches (reWriteBatchedInserts)
+ * - Hand-built multi-row INSERT ... VALUES statements
+ * - Array-bound deletes that reuse one prepared statement
+ * - Table truncation between measurements
+ * - The same operations against the UNLOGGED clone table
+ * - Transaction-local asynchronous commit
+ * - EXPLAIN ANALYZE of one insert or delete batch in a rolled-back savepoint
+ *
+ * All methods run on the connection bound to the current Spring transaction
+ * (if any), so they take part in the caller's transaction boundaries.
+ * Driver-rewrite variants use the rewrite pool, whose transactions come from
+ * the rewriteBatchedInsertsTransactionManager.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Repository
+public class PerformanceTestJdbcRepository {
+
+    private static final String COPY_COLUMNS = "test_id, category, description, numeric_value, string_value, "
+            + "json_data, is_active, priority, tags, created_at, updated_at, version";
+
+    private static final String INSERT_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String INSERT_SQL = "INSERT INTO %s (" + COPY_COLUMNS + ") VALUES " + INSERT_VALUES_ROW;
+
+    private static final int INSERT_PARAMETERS_PER_ROW = 11;
+
+    // The v3 protocol carries at most 32767 bind parameters per statement
+    public static final int MAX_MULTI_ROW_VALUES_ROWS = Short.MAX_VALUE / INSERT_PARAMETERS_PER_ROW;
+
+    private static final String TRUNCATE_SQL = "TRUNCATE TABLE %s";
+
+    private static final String DELETE_BY_ID_ARRAY_SQL = "DELETE FROM %s WHERE id = ANY(?)";
+
+    private static final String FIND_IDS_AFTER_SQL = "SELECT id FROM %s WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String FIND_IDS_IN_RANGE_SQL = "SELECT id FROM %s WHERE id > ? AND id <= ? "
+            + "ORDER BY id LIMIT ?";
+
+    private static final String COUNT_UP_TO_SQL = "SELECT count(*) FROM (SELECT 1 FROM %s LIMIT ?) bounded";
+
+    // LIKE ... INCLUDING ALL copies a BIGSERIAL default that still draws from
+    // the standard table's (logged) sequence, so the clone gets its own
+    // identity; on an UNLOGGED table its sequence is unlogged too
+    private static final String CREATE_UNLOGGED_CLONE_SQL = """
+            DO $$
+            BEGIN
+                CREATE UNLOGGED TABLE IF NOT EXISTS %1$s (LIKE %2$s INCLUDING ALL);
+                IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                               WHERE table_schema = current_schema() AND table_name = '%1$s'
+                                 AND column_name = 'id' AND is_identity = 'YES') THEN
+                    ALTER TABLE %1$s ALTER COLUMN id DROP DEFAULT;
+                    ALTER TABLE %1$s ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY;
+                END IF;
+            END
+            $$
+            """.formatted(TargetTable.UNLOGGED.tableName(), TargetTable.STANDARD.tableName());
+
+    private static final String ASYNCHRONOUS_COMMIT_SQL = "SET LOCAL synchronous_commit = off";
+
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS, WAL, FORMAT JSON) ";
+
+    private static final String DELETE_BY_ID_LIST_SQL = "DELETE FROM %s WHERE id IN (%s)";
+
+    private static final DateTimeFormatter COPY_TIMESTAMP_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate rewriteJdbcTemplate;
+
+    public PerformanceTestJdbcRepository(JdbcTemplate jdbcTemplate,
+            @Qualifier("rewriteBatchedInsertsDataSource") DataSource rewriteBatchedInsertsDataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rewriteJdbcTemplate = new JdbcTemplate(rewriteBatchedInsertsDataSource);
+    }
+
+    // ===== BULK LOAD OPERATIONS =====
+
+    /**
+     * Stream records into the table with a single COPY FROM STDIN statement
+     * Returns the number of rows reported by the server
+     */
+    public long copyInsert(List<PerformanceTestRecord> records) {
+        return copyInsert(TargetTable.STANDARD, records);
+    }
+
+    public long copyInsert(TargetTable table, List<PerformanceTestRecord> records) {
+        String sql = "COPY " + table.tableName() + " (" + COPY_COLUMNS + ") FROM STDIN";
+        String timestamp = LocalDateTime.now().format(COPY_TIMESTAMP_FORMAT);
+
+        StringBuilder rows = new StringBuilder(records.size() * 256);
+        for (PerformanceTestRecord record : records) {
+            appendCopyRow(rows, record, timestamp);
+        }
+        byte[] payload = rows.toString().getBytes(StandardCharsets.UTF_8);
+
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                copyIn.writeToCopy(payload, 0, payload.length);
+                return copyIn.endCopy();
+            } catch (SQLException e) {
+                cancelQuietly(copyIn);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Insert records with one prepared statement and a single executeBatch
+     * Writes the same columns as the entity mapping, but no entity is
+     * managed, snapshotted or version-checked
+     */
+    public int batchInsert(TargetTable table, List<PerformanceTestRecord> records, boolean driverRewrite) {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        JdbcTemplate template = driverRewrite ? rewriteJdbcTemplate : jdbcTemplate;
+
+        String sql = String.format(INSERT_SQL, table.tableName());
+
+        int[] counts = template.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                bindInsertRow(statement, 0, records.get(i), timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+
+        int inserted = 0;
+        for (int count : counts) {
+            // Drivers may report success without a row count
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return inserted;
+    }
+
+    /**
+     * Insert records as one INSERT ... VALUES (...), (...) statement per
+     * {@link #MAX_MULTI_ROW_VALUES_ROWS} rows, built here rather than by the
+     * driver
+     */
+    public int multiRowInsert(TargetTable table, List<PerformanceTestRecord> records) {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < records.size(); from += MAX_MULTI_ROW_VALUES_ROWS) {
+            List<PerformanceTestRecord> chunk = records.subList(from,
+                    Math.min(from + MAX_MULTI_ROW_VALUES_ROWS, records.size()));
+            inserted += jdbcTemplate.update(multiRowInsertSql(table, chunk.size()), statement -> {
+                for (int row = 0; row < chunk.size(); row++) {
+                    bindInsertRow(statement, row * INSERT_PARAMETERS_PER_ROW, chunk.get(row), timestamp);
+                }
+            });
+        }
+        return inserted;
+    }
+
+    // ===== DELETE OPERATIONS =====
+
+    /**
+     * Delete a batch of records by binding all ids as one bigint[] parameter
+     * The statement text is identical for every batch size, so the driver's
+     * prepared statement (and the server plan) is reused across batches
+     */
+    @Transactional(timeout = 120)
+    public int deleteByIdArray(TargetTable table, List<Long> ids) {
+        String sql = String.format(DELETE_BY_ID_ARRAY_SQL, table.tableName());
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Array idArray = connection.createArrayOf("bigint", ids.toArray());
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setArray(1, idArray);
+                return statement.executeUpdate();
+            } finally {
+                idArray.free();
+            }
+        });
+    }
+
+    // ===== ID SCANS =====
+
+    /**
+     * Keyset page of ids; the JDBC counterpart of the JPA repository query,
+     * usable against either table
+     */
+    public List<Long> findIdsAfter(TargetTable table, long lastId, int limit) {
+        return jdbcTemplate.queryForList(String.format(FIND_IDS_AFTER_SQL, table.tableName()), Long.class,
+                lastId, limit);
+    }
+
+    public List<Long> findIdsInRange(TargetTable table, long lastId, long maxId, int limit) {
+        return jdbcTemplate.queryForList(String.format(FIND_IDS_IN_RANGE_SQL, table.tableName()), Long.class,
+                lastId, maxId, limit);
+    }
+
+    public long countUpTo(TargetTable table, int limit) {
+        Long count = jdbcTemplate.queryForObject(String.format(COUNT_UP_TO_SQL, table.tableName()), Long.class,
+                limit);
+        return count != null ? count : 0L;
+    }
+
+    // ===== TABLE STATE =====
+
+    /**
+     * Remove every row so measurements start from the same table state
+     * Sequences are not restarted; ids keep increasing across resets
+     */
+    public void truncate() {
+        truncate(TargetTable.STANDARD);
+    }
+
+    public void truncate(TargetTable table) {
+        jdbcTemplate.execute(String.format(TRUNCATE_SQL, table.tableName()));
+    }
+
+    /**
+     * Create the UNLOGGED clone (columns, defaults and indexes) if missing,
+     * with an id identity independent of the standard table's sequence; safe
+     * to call before every run, and upgrades a clone created without one
+     */
+    public void ensureUnloggedClone() {
+        jdbcTemplate.execute(CREATE_UNLOGGED_CLONE_SQL);
+    }
+
+    // ===== SESSION SETTINGS =====
+
+    /**
+     * Commit the current transaction without waiting for its WAL flush
+     * SET LOCAL ends with the transaction, so the pooled connection is never
+     * left in asynchronous mode
+     */
+    public void useAsynchronousCommit(boolean driverRewrite) {
+        (driverRewrite ? rewriteJdbcTemplate : jdbcTemplate).execute(ASYNCHRONOUS_COMMIT_SQL);
+    }
+
+    // ===== DIAGNOSTICS =====
+
+    /**
+     * EXPLAIN ANALYZE the records as one multi-row INSERT inside a savepoint
+     * that is always rolled back; returns the JSON plan
+     * Requires a surrounding transaction
+     */
+    public String explainMultiRowInsert(TargetTable table, List<PerformanceTestRecord> records) {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        return explainInSavepoint(EXPLAIN_PREFIX + multiRowInsertSql(table, records.size()),
+                (connection, statement) -> {
+                    for (int row = 0; row < records.size(); row++) {
+                        bindInsertRow(statement, row * INSERT_PARAMETERS_PER_ROW, records.get(row), timestamp);
+                    }
+                });
+    }
+
+    /**
+     * EXPLAIN ANALYZE DELETE ... WHERE id = ANY(?) in a rolled-back savepoint
+     */
+    public String explainDeleteByIdArray(TargetTable table, List<Long> ids) {
+        return explainInSavepoint(EXPLAIN_PREFIX + String.format(DELETE_BY_ID_ARRAY_SQL, table.tableName()),
+                (connection, statement) -> statement.setArray(1, connection.createArrayOf("bigint", ids.toArray())));
+    }
+
+    /**
+     * EXPLAIN ANALYZE DELETE ... WHERE id IN (?, ?, ...) in a rolled-back
+     * savepoint; the statement shape used by the JPA and StatelessSession
+     * deletes
+     */
+    public String explainDeleteByIdList(TargetTable table, List<Long> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return explainInSavepoint(EXPLAIN_PREFIX + String.format(DELETE_BY_ID_LIST_SQL, table.tableName(),
+                placeholders), (connection, statement) -> {
+                    for (int i = 0; i < ids.size(); i++) {
+                        statement.setLong(i + 1, ids.get(i));
+                    }
+                });
+    }
+
+    private String explainInSavepoint(String sql, StatementBinder binder) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                binder.bind(connection, statement);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString(1) : null;
+                }
+            } finally {
+                connection.rollback(savepoint);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(Connection connection, PreparedStatement statement) throws SQLException;
+    }
+
+    private String multiRowInsertSql(TargetTable table, int rows) {
+        StringBuilder sql = new StringBuilder(64 + rows * (INSERT_VALUES_ROW.length() + 2))
+                .append(String.format(INSERT_SQL, table.tableName()));
+        for (int row = 1; row < rows; row++) {
+            sql.append(", ").append(INSERT_VALUES_ROW);
+        }
+        return sql.toString();
+    }
+
+    private void bindInsertRow(PreparedStatement statement, int offset, PerformanceTestRecord record,
+            Timestamp timestamp) throws SQLException {
+        statement.setString(offset + 1, record.getTestId());
+        statement.setString(offset + 2, record.getCategory());
+        statement.setString(offset + 3, record.getDescription());
+        statement.setObject(offset + 4, record.getNumericValue());
+        statement.setString(offset + 5, record.getStringValue());
+        statement.setString(offset + 6, record.getJsonData());
+        statement.setObject(offset + 7, record.getIsActive());
+        statement.setObject(offset + 8, record.getPriority());
+        statement.setString(offset + 9, record.getTags());
+        statement.setTimestamp(offset + 10, timestamp);
+        statement.setTimestamp(offset + 11, timestamp);
+    }
+
+    private void appendCopyRow(StringBuilder rows, PerformanceTestRecord record, String timestamp) {
+        appendCopyValue(rows, record.getTestId()).append('\t');
+        appendCopyValue(rows, record.getCategory()).append('\t');
+        appendCopyValue(rows, record.getDescription()).append('\t');
+        appendCopyValue(rows, record.getNumericValue()).append('\t');
+        appendCopyValue(rows, record.getStringValue()).append('\t');
+        appendCopyValue(rows, record.getJsonData()).append('\t');
+        appendCopyValue(rows, record.getIsActive() == null ? null : (record.getIsActive() ? "t" : "f")).append('\t');
+        appendCopyValue(rows, record.getPriority()).append('\t');
+        appendCopyValue(rows, record.getTags()).append('\t');
+        rows.append(timestamp).append('\t');
+        rows.append(timestamp).append('\t');
+        rows.append('0').append('\n');
+    }
+
+    /**
+     * Append a value in COPY text format, escaping the characters that have
+     * special meaning to the server
+     */
+    static StringBuilder appendCopyValue(StringBuilder rows, Object value) {
+        if (value == null) {
+            return rows.append("\\N");
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+
+    private void cancelQuietly(CopyIn copyIn) {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to cancel COPY operation: {}", e.getMessage());
+        }
+    }
+}
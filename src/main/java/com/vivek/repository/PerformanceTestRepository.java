@@ -50,29 +50,82 @@ public interface PerformanceTestRepository extends JpaRepository<PerformanceTest
         // ===== OPTIMIZED ID RETRIEVAL =====
 
         /**
-         * Get paginated IDs for memory-efficient batch processing
+         * Keyset page of IDs: the next {@code limit} IDs after {@code lastId}
+         * Cost per page is independent of how many pages were read before
          */
-        @Query(value = "SELECT p.id FROM performance_test_records p ORDER BY p.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+        @Query(value = "SELECT p.id FROM performance_test_records p WHERE p.id > :lastId ORDER BY p.id LIMIT :limit", nativeQuery = true)
         @QueryHints({
                         @QueryHint(name = "org.hibernate.fetchSize", value = "5000"),
                         @QueryHint(name = "org.hibernate.readOnly", value = "true")
         })
-        List<Long> findIdsPaginated(@Param("limit") int limit, @Param("offset") int offset);
+        List<Long> findIdsAfter(@Param("lastId") long lastId, @Param("limit") int limit);
+
+        /**
+         * Keyset page restricted to ids up to {@code maxId} (inclusive), so
+         * concurrent workers can each own a disjoint id range
+         */
+        @Query(value = "SELECT p.id FROM performance_test_records p WHERE p.id > :lastId AND p.id <= :maxId ORDER BY p.id LIMIT :limit", nativeQuery = true)
+        @QueryHints({
+                        @QueryHint(name = "org.hibernate.fetchSize", value = "5000"),
+                        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+        })
+        List<Long> findIdsInRange(@Param("lastId") long lastId, @Param("maxId") long maxId,
+                        @Param("limit") int limit);
+
+        /**
+         * Id at the given zero-based position in id order; used to split the
+         * table into equally sized id ranges
+         */
+        @Query(value = "SELECT p.id FROM performance_test_records p ORDER BY p.id OFFSET :offset LIMIT 1", nativeQuery = true)
+        Long findIdAtOffset(@Param("offset") long offset);
 
         // ===== PERFORMANCE MONITORING QUERIES =====
 
         /**
-         * Get total record count efficiently
+         * Exact record count (full scan); prefer RecordCountTracker unless the
+         * exact value is required
          */
         @Query("SELECT COUNT(p) FROM PerformanceTestRecord p")
         Long getTotalRecordCount();
 
+        /**
+         * Count rows up to {@code limit}; answers "are there at least N rows"
+         * while scanning at most N rows
+         */
+        @Query(value = "SELECT count(*) FROM (SELECT 1 FROM performance_test_records LIMIT :limit) bounded", nativeQuery = true)
+        Long countUpTo(@Param("limit") int limit);
+
+        /**
+         * Catalog row estimate without scanning the table
+         * Uses pg_stat_user_tables.n_live_tup once the table has statistics,
+         * otherwise pg_class.reltuples (maintained by VACUUM/ANALYZE)
+         */
+        @Query(value = """
+                        SELECT CASE
+                                 WHEN s.n_tup_ins + s.n_tup_del > 0
+                                      OR s.last_analyze IS NOT NULL
+                                      OR s.last_autoanalyze IS NOT NULL
+                                 THEN s.n_live_tup
+                                 ELSE GREATEST(c.reltuples, 0)::bigint
+                               END
+                        FROM pg_class c
+                        LEFT JOIN pg_stat_user_tables s ON s.relid = c.oid
+                        WHERE c.oid = 'performance_test_records'::regclass
+                        """, nativeQuery = true)
+        Long getEstimatedRecordCount();
+
         /**
          * Get database table size information
          */
         @Query(value = "SELECT pg_size_pretty(pg_total_relation_size('performance_test_records')) as table_size", nativeQuery = true)
         String getTableSize();
 
+        /**
+         * Get database table size in bytes (table, indexes and TOAST)
+         */
+        @Query(value = "SELECT pg_total_relation_size('performance_test_records')", nativeQuery = true)
+        Long getTableSizeBytes();
+
         // ===== HEALTH CHECK OPERATIONS =====
 
         /**
@@ -0,0 +1,77 @@
+package com.vivek.repository;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.vivek.model.AbstractPerformanceTestRecord;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate StatelessSession operations for Performance Test Records
+ *
+ * Provides:
+ * - Entity inserts without a first-level cache, dirty-checking snapshots or
+ *   cascades, so memory stays flat however many rows one transaction writes
+ * - Bulk deletes by id through the same stateless session
+ *
+ * Each call opens a short-lived StatelessSession on the connection bound to
+ * the current Spring transaction, so statements take part in the caller's
+ * transaction boundaries exactly like the JDBC repository.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Repository
+public class PerformanceTestStatelessRepository {
+
+    private static final String DELETE_BY_IDS_HQL = "DELETE FROM PerformanceTestRecord p WHERE p.id IN (:ids)";
+
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+
+    public PerformanceTestStatelessRepository(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Insert every record with an immediate INSERT; nothing is retained once
+     * the statement has executed
+     */
+    public int insertAll(List<? extends AbstractPerformanceTestRecord> records) {
+        return withStatelessSession(session -> {
+            for (AbstractPerformanceTestRecord record : records) {
+                session.insert(record);
+            }
+            return records.size();
+        });
+    }
+
+    @Transactional(timeout = 120)
+    public int deleteByIds(List<Long> ids) {
+        return withStatelessSession(session -> session.createMutationQuery(DELETE_BY_IDS_HQL)
+                .setParameterList("ids", ids)
+                .executeUpdate());
+    }
+
+    private <T> T withStatelessSession(Function<StatelessSession, T> work) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (StatelessSession session = sessionFactory.withStatelessOptions()
+                .connection(connection)
+                .openStatelessSession()) {
+            return work.apply(session);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.vivek.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vivek.dto.DeleteStrategy;
+import com.vivek.dto.ExplainPlanNode;
+import com.vivek.dto.ExplainPlanSummary;
+import com.vivek.dto.ExplainTrigger;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.TargetTable;
+import com.vivek.model.PerformanceTestRecord;
+import com.vivek.repository.PerformanceTestJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * EXPLAIN (ANALYZE, BUFFERS, WAL, FORMAT JSON) of one representative batch
+ *
+ * Provides:
+ * - The batch's statement executed for real inside a savepoint, in a
+ *   transaction that is always rolled back, so the table is left unchanged
+ * - A parsed summary: planning/execution time, per-node timings, buffer and
+ *   WAL counts, and time per trigger
+ *
+ * Statement per strategy:
+ * - MULTI_ROW_VALUES: the batch's own INSERT ... VALUES statement
+ * - JPA_BATCH, JDBC_BATCH, STATELESS_SESSION, COPY: the batch's rows as one
+ *   multi-row INSERT. Their per-row statements (or COPY) cannot be explained
+ *   as a unit, and the multi-row form does the same heap, index and trigger
+ *   work on the server.
+ * - ANY_ARRAY deletes: DELETE ... WHERE id = ANY(?)
+ * - IN_LIST, STATELESS_SESSION and single-row deletes: DELETE ... WHERE id IN (...)
+ *
+ * Diagnostics never fail a run: errors are logged and no summary is attached.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class BatchExplainService {
+
+    private static final String NO_TRIGGER_FIRED = "No trigger fired: update_performance_test_records_updated_at "
+            + "is BEFORE UPDATE only and does not run for inserts or deletes";
+
+    private final PerformanceTestJdbcRepository jdbcRepository;
+    private final TransactionTemplate rollbackOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public BatchExplainService(PerformanceTestJdbcRepository jdbcRepository,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.jdbcRepository = jdbcRepository;
+        this.objectMapper = objectMapper;
+        this.rollbackOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.rollbackOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.rollbackOnlyTransaction.setTimeout(120);
+    }
+
+    ExplainPlanSummary explainInsert(TargetTable table, InsertStrategy strategy, int batchSize,
+            TestRecordGenerator generator) {
+        int rows = Math.min(batchSize, PerformanceTestJdbcRepository.MAX_MULTI_ROW_VALUES_ROWS);
+        List<PerformanceTestRecord> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            records.add(generator.identityRecord(i));
+        }
+        String statement = strategy == InsertStrategy.MULTI_ROW_VALUES
+                ? "INSERT ... VALUES x " + rows + " rows"
+                : "INSERT ... VALUES x " + rows + " rows (server-side equivalent of one " + strategy + " batch)";
+        return explain(statement, rows, () -> jdbcRepository.explainMultiRowInsert(table, records));
+    }
+
+    ExplainPlanSummary explainDelete(TargetTable table, DeleteStrategy strategy, int batchSize, long startAfterId) {
+        List<Long> ids;
+        try {
+            ids = jdbcRepository.findIdsAfter(table, startAfterId, batchSize);
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Could not load ids to explain a delete batch: {}", e.getMessage());
+            return null;
+        }
+        if (ids.isEmpty()) {
+            log.warn("⚠️ No rows in {} to explain a delete batch against", table.tableName());
+            return null;
+        }
+        boolean arrayBound = batchSize > 1 && strategy == DeleteStrategy.ANY_ARRAY;
+        String statement = arrayBound
+                ? "DELETE ... WHERE id = ANY(?) x " + ids.size() + " ids"
+                : "DELETE ... WHERE id IN (...) x " + ids.size() + " ids";
+        return explain(statement, ids.size(), () -> arrayBound
+                ? jdbcRepository.explainDeleteByIdArray(table, ids)
+                : jdbcRepository.explainDeleteByIdList(table, ids));
+    }
+
+    private ExplainPlanSummary explain(String statement, int rows, Supplier<String> query) {
+        try {
+            String json = rollbackOnlyTransaction.execute(status -> {
+                status.setRollbackOnly();
+                return query.get();
+            });
+            return json != null ? summarize(statement, rows, json) : null;
+        } catch (DataAccessException | TransactionException | JsonProcessingException e) {
+            log.warn("⚠️ EXPLAIN of {} failed: {}", statement, e.getMessage());
+            return null;
+        }
+    }
+
+    private ExplainPlanSummary summarize(String statement, int rows, String json) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(json).path(0);
+        JsonNode plan = root.path("Plan");
+
+        List<ExplainPlanNode> nodes = new ArrayList<>();
+        collectNodes(plan, 0, nodes);
+
+        List<ExplainTrigger> triggers = new ArrayList<>();
+        double triggerTimeMs = 0.0;
+        for (JsonNode trigger : root.path("Triggers")) {
+            ExplainTrigger explainTrigger = ExplainTrigger.builder()
+                    .name(trigger.path("Trigger Name").asText(null))
+                    .relation(trigger.path("Relation").asText(null))
+                    .timeMs(trigger.path("Time").asDouble())
+                    .calls(trigger.path("Calls").asLong())
+                    .build();
+            triggerTimeMs += explainTrigger.getTimeMs();
+            triggers.add(explainTrigger);
+        }
+
+        return ExplainPlanSummary.builder()
+                .statement(statement)
+                .rows(rows)
+                .planningTimeMs(root.path("Planning Time").asDouble())
+                .executionTimeMs(root.path("Execution Time").asDouble())
+                .triggerTimeMs(triggers.isEmpty() ? null : triggerTimeMs)
+                .triggerNote(triggers.isEmpty() ? NO_TRIGGER_FIRED : null)
+                .sharedHitBlocks(plan.path("Shared Hit Blocks").asLong())
+                .sharedReadBlocks(plan.path("Shared Read Blocks").asLong())
+                .sharedDirtiedBlocks(plan.path("Shared Dirtied Blocks").asLong())
+                .sharedWrittenBlocks(plan.path("Shared Written Blocks").asLong())
+                .walRecords(plan.path("WAL Records").asLong())
+                .walFpi(plan.path("WAL FPI").asLong())
+                .walBytes(plan.path("WAL Bytes").asLong())
+                .triggers(triggers)
+                .nodes(nodes)
+                .build();
+    }
+
+    private void collectNodes(JsonNode node, int depth, List<ExplainPlanNode> nodes) {
+        if (node.isMissingNode()) {
+            return;
+        }
+        nodes.add(ExplainPlanNode.builder()
+                .depth(depth)
+                .nodeType(node.path("Node Type").asText(null))
+                .relationName(node.path("Relation Name").asText(null))
+                .indexName(node.path("Index Name").asText(null))
+                .actualTotalTimeMs(node.path("Actual Total Time").asDouble())
+                .actualRows(node.path("Actual Rows").asLong())
+                .actualLoops(node.path("Actual Loops").asLong())
+                .sharedHitBlocks(node.path("Shared Hit Blocks").asLong())
+                .sharedReadBlocks(node.path("Shared Read Blocks").asLong())
+                .sharedDirtiedBlocks(node.path("Shared Dirtied Blocks").asLong())
+                .sharedWrittenBlocks(node.path("Shared Written Blocks").asLong())
+                .walRecords(node.path("WAL Records").asLong())
+                .walFpi(node.path("WAL FPI").asLong())
+                .walBytes(node.path("WAL Bytes").asLong())
+                .build());
+        for (JsonNode child : node.path("Plans")) {
+            collectNodes(child, depth + 1, nodes);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.vivek.service;
+
+import java.util.List;
+
+import com.vivek.exception.ValidationException;
+
+/**
+ * Sample statistics for benchmark iterations
+ *
+ * Confidence intervals use Student's t distribution, which is the right
+ * choice for the handful of iterations a database benchmark can afford.
+ */
+final class BenchmarkStatistics {
+
+    // Two-sided critical values of t for 1..30 degrees of freedom
+    private static final double[] T_90 = { 6.314, 2.920, 2.353, 2.132, 2.015, 1.943, 1.895, 1.860, 1.833, 1.812,
+            1.796, 1.782, 1.771, 1.761, 1.753, 1.746, 1.740, 1.734, 1.729, 1.725, 1.721, 1.717, 1.714, 1.711, 1.708,
+            1.706, 1.703, 1.701, 1.699, 1.697 };
+    private static final double[] T_95 = { 12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086, 2.080, 2.074, 2.069, 2.064, 2.060,
+            2.056, 2.052, 2.048, 2.045, 2.042 };
+    private static final double[] T_99 = { 63.657, 9.925, 5.841, 4.604, 4.032, 3.707, 3.499, 3.355, 3.250, 3.169,
+            3.106, 3.055, 3.012, 2.977, 2.947, 2.921, 2.898, 2.878, 2.861, 2.845, 2.831, 2.819, 2.807, 2.797, 2.787,
+            2.779, 2.771, 2.763, 2.756, 2.750 };
+
+    private BenchmarkStatistics() {
+    }
+
+    static void validateConfidenceLevel(double confidenceLevel) {
+        if (confidenceLevel != 0.90 && confidenceLevel != 0.95 && confidenceLevel != 0.99) {
+            throw new ValidationException("Confidence level must be one of 0.90, 0.95 or 0.99");
+        }
+    }
+
+    static double mean(List<Double> samples) {
+        return samples.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+    }
+
+    /**
+     * Sample standard deviation (n - 1 denominator)
+     */
+    static double stdDev(List<Double> samples, double mean) {
+        if (samples.size() < 2) {
+            return 0.0;
+        }
+        double sumOfSquares = samples.stream()
+                .mapToDouble(sample -> (sample - mean) * (sample - mean))
+                .sum();
+        return Math.sqrt(sumOfSquares / (samples.size() - 1));
+    }
+
+    /**
+     * Half-width of the confidence interval around the mean
+     */
+    static double marginOfError(List<Double> samples, double stdDev, double confidenceLevel) {
+        if (samples.size() < 2) {
+            return 0.0;
+        }
+        return tCritical(confidenceLevel, samples.size() - 1) * stdDev / Math.sqrt(samples.size());
+    }
+
+    private static double tCritical(double confidenceLevel, int degreesOfFreedom) {
+        double[] table = confidenceLevel == 0.99 ? T_99 : confidenceLevel == 0.90 ? T_90 : T_95;
+        if (degreesOfFreedom <= table.length) {
+            return table[degreesOfFreedom - 1];
+        }
+        // Normal approximation beyond the table
+        return confidenceLevel == 0.99 ? 2.576 : confidenceLevel == 0.90 ? 1.645 : 1.960;
+    }
+}
@@ -0,0 +1,93 @@
+package com.vivek.service;
+
+import com.vivek.exception.OperationCancelledException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs single-row operations on one virtual thread each
+ *
+ * Provides:
+ * - A semaphore capping operations in flight, so excess work parks on the
+ *   semaphore rather than timing out in the connection pool
+ * - Per-operation latency recorded on the shared {@link OperationContext}
+ * - Fail-fast submission: the first failure or a cancellation stops new work,
+ *   operations already in flight are allowed to finish
+ *
+ * Each operation runs in its own transaction on its own connection.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+final class BoundedVirtualThreadExecutor implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+    private final OperationContext context;
+    private final AtomicInteger rowsProcessed = new AtomicInteger(0);
+    private final AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+
+    BoundedVirtualThreadExecutor(int maxInFlight, OperationContext context) {
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.context = context;
+    }
+
+    /**
+     * Start one operation once a permit is free; returns false when no more
+     * work should be submitted
+     */
+    boolean submit(IntSupplier operation) {
+        if (firstFailure.get() != null || context.isCancelled()) {
+            return false;
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            context.cancel();
+            return false;
+        }
+
+        executor.execute(() -> {
+            try {
+                long batchStart = context.beginBatch();
+                int rows = operation.getAsInt();
+                rowsProcessed.addAndGet(rows);
+                context.endBatch(batchStart, rows);
+            } catch (RuntimeException e) {
+                firstFailure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Wait for every submitted operation and return the rows they affected;
+     * rethrows the first failure
+     */
+    int awaitCompletion() {
+        executor.close();
+
+        RuntimeException failure = firstFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+        if (context.isCancelled()) {
+            throw new OperationCancelledException("Operation %s was cancelled after %d rows",
+                    context.getOperationId(), rowsProcessed.get());
+        }
+        return rowsProcessed.get();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
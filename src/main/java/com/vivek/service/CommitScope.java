@@ -0,0 +1,128 @@
+package com.vivek.service;
+
+import java.util.function.LongConsumer;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Transaction boundaries of one insert or delete run
+ *
+ * Provides:
+ * - A transaction opened lazily before the first batch after each commit
+ * - A commit every {@code commitInterval} batches, or a single commit at the
+ *   end of the run when the interval is 0
+ * - Counts of commits and committed rows, so partial progress is known
+ *   after a failure
+ * - An optional listener told the row count of every commit as it happens
+ * - An optional setup step run at the start of every transaction (e.g.
+ *   transaction-local settings)
+ *
+ * Transactions are REQUIRES_NEW, so a caller's transaction is suspended
+ * rather than joined. Must be used on a single thread.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+final class CommitScope {
+
+    static final int WHOLE_OPERATION = 0;
+
+    private static final int TRANSACTION_TIMEOUT_SECONDS = 300;
+
+    private final PlatformTransactionManager transactionManager;
+    private final DefaultTransactionDefinition definition;
+    private final int commitInterval;
+    private final Runnable transactionSetup;
+    private final LongConsumer commitListener;
+
+    private TransactionStatus transaction;
+    private int batchesInTransaction;
+    private long pendingRows;
+    private long committedRows;
+    private int commits;
+
+    CommitScope(PlatformTransactionManager transactionManager, int commitInterval) {
+        this(transactionManager, commitInterval, null);
+    }
+
+    CommitScope(PlatformTransactionManager transactionManager, int commitInterval, Runnable transactionSetup) {
+        this(transactionManager, commitInterval, transactionSetup, null);
+    }
+
+    CommitScope(PlatformTransactionManager transactionManager, int commitInterval, Runnable transactionSetup,
+            LongConsumer commitListener) {
+        this.transactionManager = transactionManager;
+        this.commitInterval = commitInterval;
+        this.transactionSetup = transactionSetup;
+        this.commitListener = commitListener;
+        this.definition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.definition.setTimeout(TRANSACTION_TIMEOUT_SECONDS);
+    }
+
+    void beforeBatch() {
+        if (transaction == null) {
+            transaction = transactionManager.getTransaction(definition);
+            if (transactionSetup != null) {
+                transactionSetup.run();
+            }
+        }
+    }
+
+    void afterBatch(int rows) {
+        pendingRows += rows;
+        batchesInTransaction++;
+        if (commitInterval != WHOLE_OPERATION && batchesInTransaction >= commitInterval) {
+            commit();
+        }
+    }
+
+    /**
+     * Commit whatever the last interval left open
+     */
+    void complete() {
+        if (transaction != null) {
+            commit();
+        }
+    }
+
+    /**
+     * Roll back the open transaction, if any; earlier commits stay
+     */
+    void rollbackIfActive() {
+        if (transaction != null) {
+            TransactionStatus open = transaction;
+            transaction = null;
+            batchesInTransaction = 0;
+            pendingRows = 0;
+            transactionManager.rollback(open);
+        }
+    }
+
+    int getCommitInterval() {
+        return commitInterval;
+    }
+
+    int getCommits() {
+        return commits;
+    }
+
+    long getCommittedRows() {
+        return committedRows;
+    }
+
+    private void commit() {
+        TransactionStatus open = transaction;
+        transaction = null;
+        transactionManager.commit(open);
+        committedRows += pendingRows;
+        commits++;
+        if (commitListener != null) {
+            commitListener.accept(pendingRows);
+        }
+        batchesInTransaction = 0;
+        pendingRows = 0;
+    }
+}
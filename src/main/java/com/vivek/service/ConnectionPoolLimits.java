@@ -0,0 +1,44 @@
+package com.vivek.service;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * How many connections a measurement may use concurrently
+ *
+ * Derived from the Hikari pool so concurrent workloads never queue on the
+ * pool itself; a few connections stay reserved for health checks, metrics
+ * and the history writer.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Component
+public class ConnectionPoolLimits {
+
+    private final int maximumPoolSize;
+    private final int reservedConnections;
+
+    public ConnectionPoolLimits(DataSource dataSource,
+            @Value("${performance.load.reserved-connections:3}") int reservedConnections) throws SQLException {
+        this.maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        this.reservedConnections = reservedConnections;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Connections available to one workload
+     */
+    public int getUsableConnections() {
+        return Math.max(1, maximumPoolSize - reservedConnections);
+    }
+}
@@ -0,0 +1,117 @@
+package com.vivek.service;
+
+import com.vivek.dto.DatabaseIoUsage;
+import com.vivek.dto.TargetTable;
+import com.vivek.repository.DatabaseIoJdbcRepository;
+import com.vivek.repository.DatabaseIoJdbcRepository.TableBlockCounters;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * WAL and buffer I/O accounting around a run
+ *
+ * Provides:
+ * - Snapshots of the WAL insert LSN and the target table's block counters
+ * - WAL bytes (total and per row) and heap/index block hits and reads since a
+ *   snapshot, reported with each PerformanceResult
+ *
+ * Backends publish their table I/O counters at most about once per second,
+ * so the closing snapshot waits performance.database-io.stats-flush-wait-ms
+ * for the run's connections to report. WAL positions need no wait.
+ *
+ * The wait comes after the run's endTime, so it is not part of the result's
+ * duration or rows/s, but it does delay the return of smartInsert and
+ * smartDelete. Callers that time those calls from the outside must use the
+ * result's own timing. Accounting is opt-in (OperationOptions
+ * databaseIoAccounting) for that reason.
+ *
+ * Accounting is best effort: if the queries fail (e.g. missing privileges),
+ * the result simply has no databaseIo section.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class DatabaseIoTracker {
+
+    private final DatabaseIoJdbcRepository databaseIoRepository;
+
+    @Value("${performance.database-io.stats-flush-wait-ms:1000}")
+    private long statsFlushWaitMs;
+
+    public DatabaseIoTracker(DatabaseIoJdbcRepository databaseIoRepository) {
+        this.databaseIoRepository = databaseIoRepository;
+    }
+
+    /**
+     * Snapshot before the measured section; null when the counters cannot be
+     * read
+     */
+    public Snapshot snapshot(TargetTable table) {
+        try {
+            return new Snapshot(table, databaseIoRepository.currentWalInsertLsn(),
+                    databaseIoRepository.tableBlocks(table.tableName()));
+        } catch (DataAccessException e) {
+            log.warn("⚠️ WAL/buffer I/O snapshot unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * I/O since the snapshot with per-row WAL for the given number of rows;
+     * null when no snapshot was taken or the closing reads fail
+     */
+    public DatabaseIoUsage since(Snapshot start, long rows) {
+        if (start == null) {
+            return null;
+        }
+        awaitStatsFlush();
+        try {
+            long walBytes = databaseIoRepository.walBytesBetween(start.walLsn,
+                    databaseIoRepository.currentWalInsertLsn());
+            TableBlockCounters end = databaseIoRepository.tableBlocks(start.table.tableName());
+
+            long heapHit = end.heapHit() - start.blocks.heapHit();
+            long heapRead = end.heapRead() - start.blocks.heapRead();
+            long indexHit = end.indexHit() - start.blocks.indexHit();
+            long indexRead = end.indexRead() - start.blocks.indexRead();
+            long sharedHit = heapHit + indexHit;
+            long sharedRead = heapRead + indexRead;
+
+            return DatabaseIoUsage.builder()
+                    .walBytes(walBytes)
+                    .walBytesPerRow(rows > 0 ? (double) walBytes / rows : null)
+                    .sharedBlocksHit(sharedHit)
+                    .sharedBlocksRead(sharedRead)
+                    .sharedBufferHitRatio(sharedHit + sharedRead > 0
+                            ? (double) sharedHit / (sharedHit + sharedRead)
+                            : null)
+                    .heapBlocksHit(heapHit)
+                    .heapBlocksRead(heapRead)
+                    .indexBlocksHit(indexHit)
+                    .indexBlocksRead(indexRead)
+                    .build();
+        } catch (DataAccessException e) {
+            log.warn("⚠️ WAL/buffer I/O accounting unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void awaitStatsFlush() {
+        if (statsFlushWaitMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(statsFlushWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public record Snapshot(TargetTable table, String walLsn, TableBlockCounters blocks) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.vivek.service;
+
+import com.vivek.dto.HibernateStatisticsDelta;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads Hibernate statistics (hibernate.generate_statistics) around a run
+ *
+ * Provides:
+ * - Cheap counter snapshots taken before the measured section
+ * - Deltas since a snapshot, reported with each PerformanceResult
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Component
+public class HibernateStatisticsTracker {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsTracker(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(statistics.getSessionOpenCount(), statistics.getPrepareStatementCount(),
+                statistics.getEntityInsertCount(), statistics.getEntityDeleteCount(),
+                statistics.getFlushCount(), statistics.getTransactionCount());
+    }
+
+    /**
+     * Counters accumulated since the snapshot; null when statistics are disabled
+     */
+    public HibernateStatisticsDelta since(Snapshot start) {
+        if (!statistics.isStatisticsEnabled()) {
+            return null;
+        }
+        Snapshot end = snapshot();
+        return HibernateStatisticsDelta.builder()
+                .sessionsOpened(end.sessionsOpened - start.sessionsOpened)
+                .statementsPrepared(end.statementsPrepared - start.statementsPrepared)
+                .entitiesInserted(end.entitiesInserted - start.entitiesInserted)
+                .entitiesDeleted(end.entitiesDeleted - start.entitiesDeleted)
+                .flushes(end.flushes - start.flushes)
+                .transactions(end.transactions - start.transactions)
+                .build();
+    }
+
+    public record Snapshot(long sessionsOpened, long statementsPrepared, long entitiesInserted,
+            long entitiesDeleted, long flushes, long transactions) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.vivek.service;
+
+import com.vivek.dto.BenchmarkOperation;
+import com.vivek.dto.IndexExperimentResult;
+import com.vivek.dto.IndexExperimentVariant;
+import com.vivek.dto.IndexMaintenanceMode;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.TargetTable;
+import com.vivek.dto.TestRecordIndex;
+import com.vivek.exception.ValidationException;
+import com.vivek.repository.IndexMaintenanceJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index-maintenance cost experiment on performance_test_records
+ *
+ * Provides, for one insert or delete workload:
+ * - KEPT: every index maintained row by row (baseline)
+ * - DROPPED: the chosen indexes dropped for the run and left dropped
+ * - REBUILT_AFTER_LOAD: drop, run, then CREATE INDEX CONCURRENTLY, with the
+ *   rebuild included in the total time
+ *
+ * Index definitions are read from pg_indexes before anything is dropped, and
+ * every dropped (or invalid) index is recreated from them once a variant
+ * finishes, fails or is cancelled. Other runs against the standard table see
+ * the missing indexes while a variant is in progress.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class IndexMaintenanceExperimentService {
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceTableFixture tableFixture;
+    private final IndexMaintenanceJdbcRepository indexRepository;
+
+    public IndexMaintenanceExperimentService(PerformanceTestService performanceTestService,
+            PerformanceTableFixture tableFixture, IndexMaintenanceJdbcRepository indexRepository) {
+        this.performanceTestService = performanceTestService;
+        this.tableFixture = tableFixture;
+        this.indexRepository = indexRepository;
+    }
+
+    /**
+     * Indexes default to every {@link TestRecordIndex} present on the table;
+     * modes default to DROPPED and REBUILT_AFTER_LOAD. KEPT always runs first
+     * as the baseline.
+     */
+    public IndexExperimentResult runExperiment(BenchmarkOperation operation, int totalRecords, int batchSize,
+            List<TestRecordIndex> indexes, List<IndexMaintenanceMode> modes, OperationOptions options,
+            OperationContext context) {
+        List<IndexMaintenanceMode> variants = variants(modes);
+        validateExperiment(operation, totalRecords, batchSize, options);
+        Map<TestRecordIndex, String> definitions = indexes == null || indexes.isEmpty()
+                ? captureExistingDefinitions()
+                : captureDefinitions(indexes.stream().distinct().toList());
+        List<TestRecordIndex> droppedIndexes = List.copyOf(definitions.keySet());
+
+        log.info("🗂️ [{}] Index maintenance experiment started: {} {} records (batch size {}), indexes {}, modes {}",
+                context.getOperationId(), operation, totalRecords, batchSize, droppedIndexes, variants);
+
+        LocalDateTime startTime = LocalDateTime.now();
+        context.start(variants.size());
+
+        List<IndexExperimentVariant> results = new ArrayList<>();
+        for (IndexMaintenanceMode mode : variants) {
+            long variantStart = context.beginBatch();
+            IndexExperimentVariant variant = runVariant(operation, totalRecords, batchSize, mode, definitions,
+                    options, context);
+            context.endBatch(variantStart, variant.getResult().getRecordsProcessed());
+
+            IndexExperimentVariant baseline = results.isEmpty() ? variant : results.get(0);
+            variant.setSpeedup(baseline.getTotalMs() > 0 && variant.getTotalMs() > 0
+                    ? (double) baseline.getTotalMs() / variant.getTotalMs()
+                    : 0.0);
+            results.add(variant);
+
+            log.info("🗂️ [{}] {}: drop {} ms + run {} ms + rebuild {} ms = {} ms ({} rows/s)",
+                    context.getOperationId(), mode, variant.getDropMs(), variant.getRunMs(),
+                    variant.getRebuildMs(), variant.getTotalMs(), String.format("%.1f", variant.getRowsPerSecond()));
+        }
+
+        return IndexExperimentResult.builder()
+                .operationId(context.getOperationId())
+                .operation(operation)
+                .strategy(operation == BenchmarkOperation.INSERT
+                        ? options.getInsertStrategy().name()
+                        : options.getDeleteStrategy().name())
+                .totalRecords(totalRecords)
+                .batchSize(batchSize)
+                .droppedIndexes(droppedIndexes)
+                .variants(results)
+                .startTime(startTime)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private List<IndexMaintenanceMode> variants(List<IndexMaintenanceMode> modes) {
+        List<IndexMaintenanceMode> variants = new ArrayList<>();
+        variants.add(IndexMaintenanceMode.KEPT);
+        List<IndexMaintenanceMode> requested = modes == null || modes.isEmpty()
+                ? List.of(IndexMaintenanceMode.DROPPED, IndexMaintenanceMode.REBUILT_AFTER_LOAD)
+                : modes;
+        requested.stream().distinct().filter(mode -> mode != IndexMaintenanceMode.KEPT).forEach(variants::add);
+        return variants;
+    }
+
+    private void validateExperiment(BenchmarkOperation operation, int totalRecords, int batchSize,
+            OperationOptions options) {
+        if (operation == null) {
+            throw new ValidationException("Index experiment operation is required");
+        }
+        if (options.getTargetTable() != TargetTable.STANDARD) {
+            throw new ValidationException("Index experiments run against the standard table only");
+        }
+        if (batchSize <= 0 || batchSize > totalRecords) {
+            throw new ValidationException("Batch size must be between 1 and total records (%d)", totalRecords);
+        }
+    }
+
+    /**
+     * Every known index that exists on the table (idx_is_active, for example,
+     * only exists when the schema came from Docker/init-performance-tables.sql)
+     */
+    private Map<TestRecordIndex, String> captureExistingDefinitions() {
+        List<TestRecordIndex> existing = Arrays.stream(TestRecordIndex.values())
+                .filter(index -> indexRepository.indexDefinition(TargetTable.STANDARD.tableName(),
+                        index.indexName()).isPresent())
+                .toList();
+        if (existing.isEmpty()) {
+            throw new ValidationException("None of the experiment indexes exist on %s",
+                    TargetTable.STANDARD.tableName());
+        }
+        return captureDefinitions(existing);
+    }
+
+    /**
+     * Fails fast when an explicitly chosen index is missing or invalid
+     */
+    private Map<TestRecordIndex, String> captureDefinitions(List<TestRecordIndex> indexes) {
+        Map<TestRecordIndex, String> definitions = new LinkedHashMap<>();
+        for (TestRecordIndex index : indexes) {
+            String definition = indexRepository.indexDefinition(TargetTable.STANDARD.tableName(), index.indexName())
+                    .orElseThrow(() -> new ValidationException("Index %s does not exist on %s", index.indexName(),
+                            TargetTable.STANDARD.tableName()));
+            if (!indexRepository.isIndexValid(index.indexName()).orElse(false)) {
+                throw new ValidationException("Index %s is invalid; rebuild it before running the experiment",
+                        index.indexName());
+            }
+            definitions.put(index, definition);
+        }
+        return definitions;
+    }
+
+    private IndexExperimentVariant runVariant(BenchmarkOperation operation, int totalRecords, int batchSize,
+            IndexMaintenanceMode mode, Map<TestRecordIndex, String> definitions, OperationOptions options,
+            OperationContext context) {
+        // Seeding is not measured and runs with every index in place
+        if (operation == BenchmarkOperation.DELETE) {
+            tableFixture.resetWithRecords(totalRecords);
+        } else {
+            tableFixture.reset();
+        }
+
+        List<TestRecordIndex> dropped = mode == IndexMaintenanceMode.KEPT
+                ? List.of()
+                : List.copyOf(definitions.keySet());
+        Map<String, Long> rebuildMsByIndex = new LinkedHashMap<>();
+        try {
+            long dropStart = System.nanoTime();
+            dropped.forEach(index -> indexRepository.dropIndex(index.indexName()));
+            long dropMs = elapsedMs(dropStart);
+
+            OperationContext runContext = context.child(mode.name().toLowerCase());
+            PerformanceResult result = operation == BenchmarkOperation.INSERT
+                    ? performanceTestService.smartInsert(totalRecords, batchSize, options, runContext)
+                    : performanceTestService.smartDelete(totalRecords, batchSize, options, runContext);
+
+            long rebuildMs = 0L;
+            if (mode == IndexMaintenanceMode.REBUILT_AFTER_LOAD) {
+                for (TestRecordIndex index : dropped) {
+                    long rebuildStart = System.nanoTime();
+                    indexRepository.createIndexConcurrently(definitions.get(index));
+                    long indexMs = elapsedMs(rebuildStart);
+                    rebuildMsByIndex.put(index.indexName(), indexMs);
+                    rebuildMs += indexMs;
+                }
+            }
+
+            long totalMs = dropMs + result.getDurationMs() + rebuildMs;
+            return IndexExperimentVariant.builder()
+                    .mode(mode)
+                    .droppedIndexes(dropped)
+                    .dropMs(dropMs)
+                    .runMs(result.getDurationMs())
+                    .rebuildMs(rebuildMs)
+                    .totalMs(totalMs)
+                    .rebuildMsByIndex(rebuildMsByIndex)
+                    .rowsPerSecond(totalMs > 0 ? result.getRecordsProcessed() * 1000.0 / totalMs : 0.0)
+                    .result(result)
+                    .build();
+        } finally {
+            restoreIndexes(dropped, definitions, context);
+        }
+    }
+
+    /**
+     * Recreate every index that is missing or was left invalid by a failed
+     * concurrent build; not measured, and a failure is logged rather than
+     * hiding the variant's own outcome
+     */
+    private void restoreIndexes(List<TestRecordIndex> indexes, Map<TestRecordIndex, String> definitions,
+            OperationContext context) {
+        for (TestRecordIndex index : indexes) {
+            try {
+                boolean valid = indexRepository.isIndexValid(index.indexName()).orElse(false);
+                if (valid) {
+                    continue;
+                }
+                indexRepository.dropIndex(index.indexName());
+                indexRepository.createIndex(definitions.get(index));
+                log.debug("🔧 [{}] {} restored", context.getOperationId(), index.indexName());
+            } catch (DataAccessException e) {
+                log.error("❌ [{}] Failed to restore {}; recreate it with: {}", context.getOperationId(),
+                        index.indexName(), definitions.get(index), e);
+            }
+        }
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
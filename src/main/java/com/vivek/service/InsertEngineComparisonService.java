@@ -0,0 +1,131 @@
+package com.vivek.service;
+
+import com.vivek.dto.InsertEngineComparison;
+import com.vivek.dto.InsertEnginePoint;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Side-by-side comparison of the multi-row insert paths
+ *
+ * Provides, at every batch size:
+ * - JDBC_BATCH on the primary pool (driver sends each row as its own INSERT
+ *   unless the pool has reWriteBatchedInserts on)
+ * - JDBC_BATCH on the rewrite pool (driver folds the batch into multi-row
+ *   VALUES statements)
+ * - MULTI_ROW_VALUES (the application builds the multi-row statements)
+ *
+ * Every run starts from an empty target table and uses the caller's commit
+ * interval, asynchronous-commit and target-table options.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class InsertEngineComparisonService {
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceTableFixture tableFixture;
+    private final PerformanceSweepService sweepService;
+
+    public InsertEngineComparisonService(PerformanceTestService performanceTestService,
+            PerformanceTableFixture tableFixture, PerformanceSweepService sweepService) {
+        this.performanceTestService = performanceTestService;
+        this.tableFixture = tableFixture;
+        this.sweepService = sweepService;
+    }
+
+    /**
+     * Batch sizes default to performance.test.batch-sizes; sizes larger than
+     * totalRecords are skipped
+     */
+    public InsertEngineComparison runComparison(int totalRecords, List<Integer> batchSizes,
+            OperationOptions options, OperationContext context) {
+        List<Integer> requested = batchSizes == null || batchSizes.isEmpty()
+                ? sweepService.getConfiguredBatchSizes()
+                : batchSizes;
+        List<Integer> runnable = requested.stream().distinct().sorted()
+                .filter(size -> size > 0 && size <= totalRecords).toList();
+        List<Integer> skipped = requested.stream().filter(size -> !runnable.contains(size)).toList();
+        if (runnable.isEmpty()) {
+            throw new ValidationException("No batch size in %s fits within %d records", requested, totalRecords);
+        }
+
+        log.info("⚖️ [{}] Insert engine comparison started: {} records at batch sizes {}", context.getOperationId(),
+                totalRecords, runnable);
+
+        LocalDateTime startTime = LocalDateTime.now();
+        context.start(runnable.size() * 3);
+
+        OperationOptions jdbcBatch = variant(options, InsertStrategy.JDBC_BATCH, false);
+        OperationOptions jdbcBatchRewritten = variant(options, InsertStrategy.JDBC_BATCH, true);
+        OperationOptions multiRowValues = variant(options, InsertStrategy.MULTI_ROW_VALUES, false);
+
+        List<InsertEnginePoint> points = new ArrayList<>();
+        List<PerformanceResult> results = new ArrayList<>();
+        for (int batchSize : runnable) {
+            PerformanceResult plain = runStep(context, "jdbc-" + batchSize, totalRecords, batchSize, jdbcBatch);
+            PerformanceResult rewritten = runStep(context, "rewrite-" + batchSize, totalRecords, batchSize,
+                    jdbcBatchRewritten);
+            PerformanceResult multiRow = runStep(context, "values-" + batchSize, totalRecords, batchSize,
+                    multiRowValues);
+
+            results.add(plain);
+            results.add(rewritten);
+            results.add(multiRow);
+            points.add(InsertEnginePoint.builder()
+                    .name("Batch " + batchSize)
+                    .batchSize(batchSize)
+                    .jdbcBatch(plain.getRecordsPerSecond())
+                    .jdbcBatchRewritten(rewritten.getRecordsPerSecond())
+                    .multiRowValues(multiRow.getRecordsPerSecond())
+                    .jdbcBatchP99Ms(plain.getBatchLatency().getP99Ms())
+                    .jdbcBatchRewrittenP99Ms(rewritten.getBatchLatency().getP99Ms())
+                    .multiRowValuesP99Ms(multiRow.getBatchLatency().getP99Ms())
+                    .build());
+
+            log.info("⚖️ [{}] batch size {}: JDBC batch {} rows/s, rewritten {} rows/s, multi-row VALUES {} rows/s",
+                    context.getOperationId(), batchSize, String.format("%.1f", plain.getRecordsPerSecond()),
+                    String.format("%.1f", rewritten.getRecordsPerSecond()),
+                    String.format("%.1f", multiRow.getRecordsPerSecond()));
+        }
+
+        return InsertEngineComparison.builder()
+                .operationId(context.getOperationId())
+                .totalRecords(totalRecords)
+                .batchSizes(runnable)
+                .skippedBatchSizes(skipped)
+                .points(points)
+                .results(results)
+                .startTime(startTime)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private OperationOptions variant(OperationOptions options, InsertStrategy strategy, boolean driverRewrite) {
+        return options.toBuilder()
+                .insertStrategy(strategy)
+                .driverRewrite(driverRewrite)
+                .build();
+    }
+
+    private PerformanceResult runStep(OperationContext context, String step, int totalRecords, int batchSize,
+            OperationOptions options) {
+        tableFixture.reset(options.getTargetTable());
+        long stepStart = context.beginBatch();
+        PerformanceResult result = performanceTestService.smartInsert(totalRecords, batchSize, options,
+                context.child(step));
+        context.endBatch(stepStart, result.getRecordsProcessed());
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package com.vivek.service;
+
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+
+/**
+ * One running JDK Flight Recorder recording owned by a single run
+ *
+ * Stopping writes the recording to its destination file. {@link #stop()} is
+ * idempotent, so the run stops it explicitly on success and
+ * {@link #close()} in a finally block still saves what was captured when the
+ * run fails or is cancelled.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+final class JfrCapture implements AutoCloseable {
+
+    static final JfrCapture DISABLED = new JfrCapture(null, null, null);
+
+    private final String operationId;
+    private final Recording recording;
+    private final Path destination;
+    private boolean stopped;
+
+    JfrCapture(String operationId, Recording recording, Path destination) {
+        this.operationId = operationId;
+        this.recording = recording;
+        this.destination = destination;
+    }
+
+    /**
+     * Stop the recording and return the file name it was written to; null
+     * when recording was not requested
+     */
+    String stop() {
+        if (recording == null) {
+            return null;
+        }
+        if (!stopped) {
+            stopped = true;
+            try {
+                recording.stop();
+                log.info("🎥 [{}] JFR recording saved to {}", operationId, destination);
+            } finally {
+                recording.close();
+            }
+        }
+        return destination.getFileName().toString();
+    }
+
+    @Override
+    public void close() {
+        try {
+            stop();
+        } catch (RuntimeException e) {
+            log.error("❌ [{}] Failed to save JFR recording", operationId, e);
+        }
+    }
+}
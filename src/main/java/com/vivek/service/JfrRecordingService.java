@@ -0,0 +1,134 @@
+package com.vivek.service;
+
+import com.vivek.exception.PerformanceOperationException;
+import com.vivek.exception.ValidationException;
+import com.vivek.metrics.BatchEvent;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Per-run JDK Flight Recorder captures stored on local disk
+ *
+ * Provides:
+ * - A recording started and stopped around one insert or delete run, written
+ *   to {operationId}.jfr
+ * - {@link BatchEvent}s for every batch, alongside the JVM's own events from
+ *   the configured settings (default "profile")
+ * - Lookup for the download endpoint
+ * - Retention purge of old recordings
+ *
+ * Flight Recorder is JVM wide: runs that overlap a recording show up in it.
+ * Batch events carry the operationId so one run can be filtered out.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class JfrRecordingService {
+
+    private static final String FILE_EXTENSION = ".jfr";
+    // Operation ids are UUIDs, optionally with child suffixes such as "-c4-w1"
+    private static final Pattern OPERATION_ID = Pattern.compile("[A-Za-z0-9-]{1,100}");
+
+    private final Path directory;
+    private final String settings;
+    private final long maxSizeBytes;
+
+    @Value("${performance.jfr.retention-hours:24}")
+    private long retentionHours;
+
+    public JfrRecordingService(@Value("${performance.jfr.directory:${java.io.tmpdir}/performance-jfr}") String directory,
+            @Value("${performance.jfr.settings:profile}") String settings,
+            @Value("${performance.jfr.max-size-mb:256}") long maxSizeMb) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.settings = settings;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    /**
+     * Start recording for one run; the caller must stop or close the capture
+     */
+    JfrCapture start(String operationId) {
+        Path destination = recordingPath(operationId);
+        try {
+            Files.createDirectories(directory);
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("performance-" + operationId);
+            recording.enable(BatchEvent.class);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxSizeBytes);
+            recording.setDestination(destination);
+            recording.start();
+            log.info("🎥 [{}] JFR recording started with '{}' settings", operationId, settings);
+            return new JfrCapture(operationId, recording, destination);
+        } catch (IOException | ParseException e) {
+            throw new PerformanceOperationException("Could not start JFR recording: " + e.getMessage(), e);
+        }
+    }
+
+    public Optional<Path> findRecording(String operationId) {
+        Path recording = recordingPath(operationId);
+        return Files.isRegularFile(recording) ? Optional.of(recording) : Optional.empty();
+    }
+
+    @Scheduled(cron = "${performance.jfr.purge-cron:0 15 * * * *}")
+    public void purgeExpiredRecordings() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        try (Stream<Path> recordings = Files.list(directory)) {
+            long purged = recordings
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .filter(path -> isOlderThan(path, cutoff))
+                    .filter(this::delete)
+                    .count();
+            if (purged > 0) {
+                log.info("🧹 Purged {} JFR recordings older than {} hours", purged, retentionHours);
+            }
+        } catch (IOException e) {
+            log.error("❌ Failed to purge JFR recordings in {}", directory, e);
+        }
+    }
+
+    private Path recordingPath(String operationId) {
+        if (operationId == null || !OPERATION_ID.matcher(operationId).matches()) {
+            throw new ValidationException("Invalid operation id");
+        }
+        return directory.resolve(operationId + FILE_EXTENSION);
+    }
+
+    private boolean isOlderThan(Path path, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean delete(Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ Could not delete JFR recording {}", path, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.vivek.service;
+
+import java.util.List;
+
+/**
+ * Forward-only keyset cursor over record ids
+ *
+ * Each page is read with {@code WHERE id > :lastId ORDER BY id LIMIT :n}, so
+ * the cost per page stays constant no matter how far the cursor has advanced
+ * and only one page of ids is held in memory at a time.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+class KeysetIdCursor {
+
+    /**
+     * Loads up to {@code limit} ids strictly greater than {@code lastId}, in
+     * ascending order
+     */
+    @FunctionalInterface
+    interface PageLoader {
+        List<Long> load(long lastId, int limit);
+    }
+
+    private final PageLoader pageLoader;
+    private long lastId;
+    private int remaining;
+
+    KeysetIdCursor(PageLoader pageLoader, long startAfterId, int maxIds) {
+        this.pageLoader = pageLoader;
+        this.lastId = startAfterId;
+        this.remaining = maxIds;
+    }
+
+    /**
+     * Read the next page of at most {@code pageSize} ids
+     * Returns an empty list once the limit is reached or the table is exhausted
+     */
+    List<Long> next(int pageSize) {
+        if (remaining <= 0) {
+            return List.of();
+        }
+
+        List<Long> ids = pageLoader.load(lastId, Math.min(pageSize, remaining));
+        if (ids.isEmpty()) {
+            remaining = 0;
+            return ids;
+        }
+
+        lastId = ids.get(ids.size() - 1);
+        remaining -= ids.size();
+        return ids;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vivek.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * Bounds the persistence context of one long JPA insert transaction
+ *
+ * Provides:
+ * - flush + clear of the EntityManager at every batch boundary, so saved
+ *   entities are written and detached instead of accumulating until commit
+ * - The peak number of managed entities seen at a boundary, which shows
+ *   whether the context stayed bounded
+ *
+ * Must be used on the thread that owns the transaction.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+final class ManagedBatchSession {
+
+    private final EntityManager entityManager;
+    private final boolean clearEachBatch;
+    private int peakManagedEntities;
+
+    ManagedBatchSession(EntityManager entityManager, boolean clearEachBatch) {
+        this.entityManager = entityManager;
+        this.clearEachBatch = clearEachBatch;
+    }
+
+    /**
+     * Called after each batch has been handed to the EntityManager
+     */
+    void endBatch() {
+        int managedEntities = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        peakManagedEntities = Math.max(peakManagedEntities, managedEntities);
+        if (clearEachBatch) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    int getPeakManagedEntities() {
+        return peakManagedEntities;
+    }
+}
@@ -0,0 +1,241 @@
+package com.vivek.service;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.vivek.dto.LatencyPercentiles;
+import com.vivek.exception.OperationCancelledException;
+import com.vivek.metrics.BatchEvent;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Live state of one insert or delete operation
+ *
+ * Created before the operation starts so its id can be handed out early, then
+ * updated by the batch loops at every batch boundary. Other threads may read
+ * progress or request cancellation at any time; cancellation takes effect
+ * before the next batch starts.
+ *
+ * Every batch is timed into HdrHistograms (per batch and per record, in
+ * nanoseconds) so results can report tail latency rather than averages.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+public class OperationContext {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String operationId;
+    private final OperationContext parent;
+    private final AtomicInteger batchesCompleted = new AtomicInteger(0);
+    private final AtomicLong recordsProcessed = new AtomicLong(0);
+    private volatile int expectedBatches;
+    private volatile long startNanos;
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    // Optional id window (startAfterId, maxId] for operations that walk ids
+    private volatile long startAfterId = 0L;
+    private volatile long maxId = Long.MAX_VALUE;
+    // Set for runs that must not reach performance_metrics_history (warmups)
+    private volatile boolean excludedFromHistory;
+    private volatile Timer batchTimer;
+    // Set by insert/delete runs so each batch is emitted as a BatchEvent
+    private volatile String batchOperation;
+    private volatile int batchSize;
+
+    // 3 significant digits, auto-resizing; safe for concurrent recording
+    private final Histogram batchLatency = new ConcurrentHistogram(3);
+    private final Histogram recordLatency = new ConcurrentHistogram(3);
+
+    public OperationContext() {
+        this(UUID.randomUUID().toString());
+    }
+
+    public OperationContext(String operationId) {
+        this(operationId, null);
+    }
+
+    private OperationContext(String operationId, OperationContext parent) {
+        this.operationId = operationId;
+        this.parent = parent;
+    }
+
+    /**
+     * Fresh context for one sub-run (e.g. a benchmark iteration) that keeps
+     * its own progress and latency but is cancelled together with this one
+     */
+    OperationContext child(String suffix) {
+        return new OperationContext(operationId + "-" + suffix, this);
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    /**
+     * Restrict id-walking operations (deletes) to ids in (startAfterId, maxId]
+     */
+    void restrictIds(long startAfterId, long maxId) {
+        this.startAfterId = startAfterId;
+        this.maxId = maxId;
+    }
+
+    long getStartAfterId() {
+        return startAfterId;
+    }
+
+    long getMaxId() {
+        return maxId;
+    }
+
+    boolean hasIdLimit() {
+        return maxId != Long.MAX_VALUE;
+    }
+
+    /**
+     * Keep this operation's result out of the run history, e.g. a benchmark
+     * warmup iteration
+     */
+    void excludeFromHistory() {
+        this.excludedFromHistory = true;
+    }
+
+    boolean isExcludedFromHistory() {
+        return excludedFromHistory;
+    }
+
+    /**
+     * Mark the start of the measured section
+     */
+    void start(int expectedBatches) {
+        start(expectedBatches, null);
+    }
+
+    /**
+     * Mark the start of the measured section, mirroring every batch into the
+     * given Micrometer timer. Per-record latency stays in the HdrHistogram
+     * only: it is weighted by rows per batch, and one timer sample per batch
+     * would disagree with it whenever batch sizes vary.
+     */
+    void start(int expectedBatches, Timer batchTimer) {
+        this.batchTimer = batchTimer;
+        this.expectedBatches = expectedBatches;
+        this.startNanos = System.nanoTime();
+        this.started = true;
+    }
+
+    /**
+     * Emit a {@link BatchEvent} for every batch of this operation
+     */
+    void describeBatches(String operation, int batchSize) {
+        this.batchOperation = operation;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Called before each batch; aborts the operation if it was cancelled
+     * Returns the batch start timestamp to pass to {@link #endBatch}
+     */
+    long beginBatch() {
+        if (isCancelled()) {
+            throw new OperationCancelledException("Operation %s was cancelled after %d batches",
+                    operationId, batchesCompleted.get());
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Called after each batch with the number of rows it affected
+     */
+    void endBatch(long batchStartNanos, int rowsAffected) {
+        long batchNanos = System.nanoTime() - batchStartNanos;
+        batchLatency.recordValue(batchNanos);
+        if (batchTimer != null) {
+            batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+        }
+        if (rowsAffected > 0) {
+            long perRecordNanos = batchNanos / rowsAffected;
+            recordLatency.recordValueWithCount(perRecordNanos, rowsAffected);
+        }
+        recordsProcessed.addAndGet(rowsAffected);
+        int batchIndex = batchesCompleted.getAndIncrement();
+        if (batchOperation != null) {
+            BatchEvent.emit(operationId, batchOperation, batchIndex, batchSize, batchNanos, rowsAffected);
+        }
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    public int getBatchesCompleted() {
+        return batchesCompleted.get();
+    }
+
+    public int getExpectedBatches() {
+        return expectedBatches;
+    }
+
+    public long getRecordsProcessed() {
+        return recordsProcessed.get();
+    }
+
+    /**
+     * Throughput so far, measured from {@link #start}
+     */
+    public double getRowsPerSecond() {
+        if (!started) {
+            return 0.0;
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return elapsedSeconds > 0 ? recordsProcessed.get() / elapsedSeconds : 0.0;
+    }
+
+    public LatencyPercentiles getBatchLatency() {
+        return summarize(batchLatency);
+    }
+
+    public LatencyPercentiles getRecordLatency() {
+        return summarize(recordLatency);
+    }
+
+    /**
+     * Batch latency across several contexts, e.g. the workers of one load level
+     */
+    static LatencyPercentiles combinedBatchLatency(Collection<OperationContext> contexts) {
+        Histogram combined = new Histogram(3);
+        contexts.forEach(context -> combined.add(context.batchLatency));
+        return summarize(combined);
+    }
+
+    static LatencyPercentiles combinedRecordLatency(Collection<OperationContext> contexts) {
+        Histogram combined = new Histogram(3);
+        contexts.forEach(context -> combined.add(context.recordLatency));
+        return summarize(combined);
+    }
+
+    private static LatencyPercentiles summarize(Histogram histogram) {
+        Histogram snapshot = histogram.copy();
+        return LatencyPercentiles.builder()
+                .count(snapshot.getTotalCount())
+                .meanMs(snapshot.getMean() / NANOS_PER_MILLI)
+                .p50Ms(snapshot.getValueAtPercentile(50.0) / NANOS_PER_MILLI)
+                .p90Ms(snapshot.getValueAtPercentile(90.0) / NANOS_PER_MILLI)
+                .p99Ms(snapshot.getValueAtPercentile(99.0) / NANOS_PER_MILLI)
+                .p999Ms(snapshot.getValueAtPercentile(99.9) / NANOS_PER_MILLI)
+                .maxMs(snapshot.getMaxValue() / NANOS_PER_MILLI)
+                .build();
+    }
+}
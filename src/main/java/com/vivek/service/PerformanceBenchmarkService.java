@@ -0,0 +1,176 @@
+package com.vivek.service;
+
+import com.vivek.dto.BenchmarkOperation;
+import com.vivek.dto.BenchmarkOptions;
+import com.vivek.dto.BenchmarkPoint;
+import com.vivek.dto.BenchmarkResult;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.TargetTable;
+import com.vivek.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repeated-measurement runner for insert and delete operations
+ *
+ * Provides:
+ * - Warmup iterations that are executed and discarded, and kept out of the
+ *   run history
+ * - Measured iterations per batch size, each from the same table state
+ * - Mean, standard deviation and t-based confidence interval of rows/s
+ *
+ * Note: every iteration truncates the performance table first.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class PerformanceBenchmarkService {
+
+    private static final int MAX_WARMUP_ITERATIONS = 10;
+    private static final int MAX_MEASURED_ITERATIONS = 30;
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceTableFixture tableFixture;
+
+    public PerformanceBenchmarkService(PerformanceTestService performanceTestService,
+            PerformanceTableFixture tableFixture) {
+        this.performanceTestService = performanceTestService;
+        this.tableFixture = tableFixture;
+    }
+
+    /**
+     * Run the benchmark; the context reports one batch per iteration and its
+     * cancellation stops the iteration in progress
+     */
+    public BenchmarkResult runBenchmark(BenchmarkOptions options, OperationContext context) {
+        validateBenchmark(options);
+
+        int iterationsPerPoint = options.getWarmupIterations() + options.getMeasuredIterations();
+        log.info("🔬 [{}] Benchmark started: {} of {} records, batch sizes {}, {} warmup + {} measured iterations",
+                context.getOperationId(), options.getOperation(), options.getTotalRecords(),
+                options.getBatchSizes(), options.getWarmupIterations(), options.getMeasuredIterations());
+
+        LocalDateTime startTime = LocalDateTime.now();
+        context.start(options.getBatchSizes().size() * iterationsPerPoint);
+
+        List<BenchmarkPoint> points = new ArrayList<>();
+        for (int batchSize : options.getBatchSizes()) {
+            List<Double> samples = new ArrayList<>();
+            List<Double> batchP99s = new ArrayList<>();
+
+            for (int iteration = 0; iteration < iterationsPerPoint; iteration++) {
+                boolean warmup = iteration < options.getWarmupIterations();
+                prepareTable(options);
+
+                long iterationStart = context.beginBatch();
+                OperationContext iterationContext = context.child(batchSize + "-" + iteration);
+                if (warmup) {
+                    iterationContext.excludeFromHistory();
+                }
+                PerformanceResult result = runIteration(options, batchSize, iterationContext);
+                // The run's own start/end, not the context clock, which keeps running through
+                // post-run diagnostics and history capture
+                double rowsPerSecond = result.getRecordsPerSecond();
+                context.endBatch(iterationStart, result.getRecordsProcessed());
+
+                if (!warmup) {
+                    samples.add(rowsPerSecond);
+                    batchP99s.add(result.getBatchLatency().getP99Ms());
+                }
+                log.debug("🔬 [{}] batch size {} {} iteration {}: {} rows/s", context.getOperationId(), batchSize,
+                        warmup ? "warmup" : "measured", iteration, String.format("%.1f", rowsPerSecond));
+            }
+
+            BenchmarkPoint point = summarize(batchSize, samples, batchP99s, options.getConfidenceLevel());
+            points.add(point);
+            log.info("📊 [{}] batch size {}: {} ± {} rows/s ({}% CI)", context.getOperationId(), batchSize,
+                    String.format("%.1f", point.getMeanRowsPerSecond()),
+                    String.format("%.1f", point.getConfidenceIntervalHigh() - point.getMeanRowsPerSecond()),
+                    Math.round(options.getConfidenceLevel() * 100));
+        }
+
+        return BenchmarkResult.builder()
+                .operationId(context.getOperationId())
+                .operation(options.getOperation())
+                .strategy(resolveStrategyName(options))
+                .totalRecords(options.getTotalRecords())
+                .warmupIterations(options.getWarmupIterations())
+                .measuredIterations(options.getMeasuredIterations())
+                .confidenceLevel(options.getConfidenceLevel())
+                .points(points)
+                .startTime(startTime)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private void validateBenchmark(BenchmarkOptions options) {
+        if (options.getOperation() == null) {
+            throw new ValidationException("Benchmark operation is required");
+        }
+        if (options.getBatchSizes() == null || options.getBatchSizes().isEmpty()) {
+            throw new ValidationException("At least one batch size is required");
+        }
+        for (int batchSize : options.getBatchSizes()) {
+            if (batchSize <= 0 || batchSize > options.getTotalRecords()) {
+                throw new ValidationException("Batch size %d must be between 1 and total records (%d)",
+                        batchSize, options.getTotalRecords());
+            }
+        }
+        if (options.getWarmupIterations() < 0 || options.getWarmupIterations() > MAX_WARMUP_ITERATIONS) {
+            throw new ValidationException("Warmup iterations must be between 0 and %d", MAX_WARMUP_ITERATIONS);
+        }
+        if (options.getMeasuredIterations() < 2 || options.getMeasuredIterations() > MAX_MEASURED_ITERATIONS) {
+            throw new ValidationException("Measured iterations must be between 2 and %d", MAX_MEASURED_ITERATIONS);
+        }
+        BenchmarkStatistics.validateConfidenceLevel(options.getConfidenceLevel());
+    }
+
+    private void prepareTable(BenchmarkOptions options) {
+        TargetTable table = options.getOperationOptions().getTargetTable();
+        if (options.getOperation() == BenchmarkOperation.DELETE) {
+            tableFixture.resetWithRecords(table, options.getTotalRecords());
+        } else {
+            tableFixture.reset(table);
+        }
+    }
+
+    private PerformanceResult runIteration(BenchmarkOptions options, int batchSize, OperationContext context) {
+        OperationOptions operationOptions = options.getOperationOptions();
+        return options.getOperation() == BenchmarkOperation.INSERT
+                ? performanceTestService.smartInsert(options.getTotalRecords(), batchSize, operationOptions, context)
+                : performanceTestService.smartDelete(options.getTotalRecords(), batchSize, operationOptions, context);
+    }
+
+    private BenchmarkPoint summarize(int batchSize, List<Double> samples, List<Double> batchP99s,
+            double confidenceLevel) {
+        double mean = BenchmarkStatistics.mean(samples);
+        double stdDev = BenchmarkStatistics.stdDev(samples, mean);
+        double margin = BenchmarkStatistics.marginOfError(samples, stdDev, confidenceLevel);
+
+        return BenchmarkPoint.builder()
+                .batchSize(batchSize)
+                .samplesRowsPerSecond(samples)
+                .meanRowsPerSecond(mean)
+                .stdDevRowsPerSecond(stdDev)
+                .confidenceIntervalLow(mean - margin)
+                .confidenceIntervalHigh(mean + margin)
+                .relativeErrorPercent(mean > 0 ? margin / mean * 100 : 0.0)
+                .meanBatchP99Ms(BenchmarkStatistics.mean(batchP99s))
+                .build();
+    }
+
+    private String resolveStrategyName(BenchmarkOptions options) {
+        OperationOptions operationOptions = options.getOperationOptions();
+        return options.getOperation() == BenchmarkOperation.INSERT
+                ? operationOptions.getInsertStrategy().name()
+                : operationOptions.getDeleteStrategy().name();
+    }
+}
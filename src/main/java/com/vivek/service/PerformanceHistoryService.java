@@ -0,0 +1,168 @@
+package com.vivek.service;
+
+import com.vivek.dto.DatabaseIoUsage;
+import com.vivek.dto.LatencyPercentiles;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.PerformanceRollup;
+import com.vivek.dto.ResourceUsage;
+import com.vivek.dto.RollupBucket;
+import com.vivek.model.PerformanceMetricsHistory;
+import com.vivek.repository.PerformanceMetricsHistoryJdbcRepository;
+import com.vivek.repository.PerformanceMetricsHistoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Long-term history of completed runs
+ *
+ * Provides:
+ * - Non-blocking capture of every PerformanceResult
+ * - Batched background writes to performance_metrics_history
+ * - History and rollup queries
+ * - Retention purge
+ *
+ * Capturing a run only enqueues it in memory, so the measured section never
+ * waits on the history table.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class PerformanceHistoryService {
+
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final PerformanceMetricsHistoryRepository historyRepository;
+    private final PerformanceMetricsHistoryJdbcRepository historyJdbcRepository;
+    private final BlockingQueue<PerformanceMetricsHistory> pendingWrites;
+    private final Counter droppedRunsCounter;
+
+    @Value("${performance.history.retention-days:90}")
+    private int retentionDays;
+
+    public PerformanceHistoryService(PerformanceMetricsHistoryRepository historyRepository,
+            PerformanceMetricsHistoryJdbcRepository historyJdbcRepository, MeterRegistry meterRegistry,
+            @Value("${performance.history.queue-capacity:10000}") int queueCapacity) {
+        this.historyRepository = historyRepository;
+        this.historyJdbcRepository = historyJdbcRepository;
+        this.pendingWrites = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.droppedRunsCounter = Counter.builder("performance.history.dropped")
+                .description("Runs not persisted because the history write queue was full")
+                .register(meterRegistry);
+
+        Gauge.builder("performance.history.pending", pendingWrites, BlockingQueue::size)
+                .description("Runs waiting to be written to the history table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue a completed run for persistence; never blocks
+     */
+    public void record(PerformanceResult result) {
+        if (!pendingWrites.offer(toHistory(result))) {
+            droppedRunsCounter.increment();
+            log.warn("⚠️ [{}] History queue full, run not persisted", result.getOperationId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${performance.history.flush-interval-ms:5000}")
+    public void flushPendingWrites() {
+        List<PerformanceMetricsHistory> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while (pendingWrites.drainTo(batch, WRITE_BATCH_SIZE) > 0) {
+            try {
+                historyRepository.saveAll(batch);
+                log.debug("💾 Persisted {} runs to performance history", batch.size());
+            } catch (Exception e) {
+                log.error("❌ Failed to persist {} history rows", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @Scheduled(cron = "${performance.history.purge-cron:0 30 3 * * *}")
+    public void purgeExpiredHistory() {
+        int purged = historyRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("🧹 Purged {} history rows older than {} days", purged, retentionDays);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPendingWrites();
+    }
+
+    public Page<PerformanceMetricsHistory> getHistory(int days, String testType, Integer batchSize, int page,
+            int size) {
+        return historyRepository.findHistory(LocalDateTime.now().minusDays(days), testType, batchSize,
+                PageRequest.of(page, size));
+    }
+
+    public List<PerformanceRollup> getRollup(int days, RollupBucket bucket, String testType) {
+        return historyJdbcRepository.rollup(bucket, LocalDateTime.now().minusDays(days), testType);
+    }
+
+    private PerformanceMetricsHistory toHistory(PerformanceResult result) {
+        LatencyPercentiles batchLatency = result.getBatchLatency();
+        ResourceUsage resourceUsage = result.getResourceUsage();
+        DatabaseIoUsage databaseIo = result.getDatabaseIo();
+        return PerformanceMetricsHistory.builder()
+                .testType(result.getTestType())
+                .strategy(result.getStrategy())
+                .idStrategy(result.getIdStrategy())
+                .executionMode(result.getExecutionMode())
+                .commitInterval(result.getCommitInterval())
+                .targetTable(result.getTargetTable())
+                .asynchronousCommit(result.isAsynchronousCommit())
+                .driverRewrite(result.getDriverRewrite())
+                .recordGenerator(result.getRecordGenerator())
+                .operationId(result.getOperationId())
+                .batchSize(result.getBatchSize())
+                .recordsProcessed(result.getRecordsProcessed())
+                .durationMs(result.getDurationMs())
+                .averageTimePerRecord(decimal(result.getAverageTimePerRecord(), 4))
+                .memoryUsedMb(result.getMemoryUsedMB())
+                .recordsPerSecond(decimal(result.getRecordsPerSecond(), 2))
+                .batchCount(result.getBatchCount())
+                .batchP50Ms(batchLatency != null ? decimal(batchLatency.getP50Ms(), 3) : null)
+                .batchP99Ms(batchLatency != null ? decimal(batchLatency.getP99Ms(), 3) : null)
+                .allocatedBytesPerRecord(resourceUsage != null && resourceUsage.getAllocatedBytesPerRecord() != null
+                        ? decimal(resourceUsage.getAllocatedBytesPerRecord(), 2) : null)
+                .cpuMsPerRecord(resourceUsage != null && resourceUsage.getCpuMsPerRecord() != null
+                        ? decimal(resourceUsage.getCpuMsPerRecord(), 6) : null)
+                .gcCount(resourceUsage != null ? resourceUsage.getGcCount() : null)
+                .gcTimeMs(resourceUsage != null ? resourceUsage.getGcTimeMs() : null)
+                .peakHeapMb(resourceUsage != null ? resourceUsage.getPeakHeapUsedMb() : null)
+                .walBytes(databaseIo != null ? databaseIo.getWalBytes() : null)
+                .walBytesPerRow(databaseIo != null && databaseIo.getWalBytesPerRow() != null
+                        ? decimal(databaseIo.getWalBytesPerRow(), 2) : null)
+                .sharedBlocksHit(databaseIo != null ? databaseIo.getSharedBlocksHit() : null)
+                .sharedBlocksRead(databaseIo != null ? databaseIo.getSharedBlocksRead() : null)
+                .startTime(result.getStartTime())
+                .endTime(result.getEndTime())
+                .build();
+    }
+
+    private BigDecimal decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
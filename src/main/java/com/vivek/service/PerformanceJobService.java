@@ -0,0 +1,257 @@
+package com.vivek.service;
+
+import com.vivek.dto.BenchmarkOperation;
+import com.vivek.dto.BenchmarkOptions;
+import com.vivek.dto.IndexMaintenanceMode;
+import com.vivek.dto.JobState;
+import com.vivek.dto.JobStatus;
+import com.vivek.dto.LoadTestOptions;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.TestRecordIndex;
+import com.vivek.exception.OperationCancelledException;
+import com.vivek.exception.ResourceExhaustedException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Asynchronous execution of insert, delete, benchmark, sweep, insert-engine
+ * comparison, index-maintenance experiment and load runs
+ *
+ * Submitting a job returns its operationId immediately; the run itself
+ * executes on a small bounded pool so long operations do not hold servlet
+ * threads. Progress is read from the job's {@link OperationContext}, and
+ * cancellation is honoured at the next batch boundary.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class PerformanceJobService {
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceBenchmarkService benchmarkService;
+    private final PerformanceSweepService sweepService;
+    private final PerformanceLoadService loadService;
+    private final InsertEngineComparisonService insertEngineComparisonService;
+    private final IndexMaintenanceExperimentService indexExperimentService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, PerformanceJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${performance.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public PerformanceJobService(PerformanceTestService performanceTestService,
+            PerformanceBenchmarkService benchmarkService,
+            PerformanceSweepService sweepService,
+            PerformanceLoadService loadService,
+            InsertEngineComparisonService insertEngineComparisonService,
+            IndexMaintenanceExperimentService indexExperimentService,
+            @Value("${performance.jobs.max-concurrent:2}") int maxConcurrentJobs,
+            @Value("${performance.jobs.queue-capacity:10}") int queueCapacity) {
+        this.performanceTestService = performanceTestService;
+        this.benchmarkService = benchmarkService;
+        this.sweepService = sweepService;
+        this.loadService = loadService;
+        this.insertEngineComparisonService = insertEngineComparisonService;
+        this.indexExperimentService = indexExperimentService;
+
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "perf-job-" + threadCounter.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("✅ Performance job executor ready: {} concurrent jobs, queue capacity {}",
+                maxConcurrentJobs, queueCapacity);
+    }
+
+    public JobStatus submitInsert(int totalRecords, int batchSize, OperationOptions options) {
+        return submit("INSERT", totalRecords, batchSize,
+                context -> performanceTestService.smartInsert(totalRecords, batchSize, options, context));
+    }
+
+    public JobStatus submitDelete(int totalRecords, int batchSize, OperationOptions options) {
+        return submit("DELETE", totalRecords, batchSize,
+                context -> performanceTestService.smartDelete(totalRecords, batchSize, options, context));
+    }
+
+    public JobStatus submitBenchmark(BenchmarkOptions options) {
+        return submit("BENCHMARK_" + options.getOperation(), options.getTotalRecords(), 0,
+                context -> benchmarkService.runBenchmark(options, context));
+    }
+
+    public JobStatus submitSweep(int totalRecords, List<Integer> batchSizes, OperationOptions options) {
+        return submit("SWEEP", totalRecords, 0,
+                context -> sweepService.runSweep(totalRecords, batchSizes, options, context));
+    }
+
+    public JobStatus submitInsertEngineComparison(int totalRecords, List<Integer> batchSizes,
+            OperationOptions options) {
+        return submit("INSERT_ENGINES", totalRecords, 0,
+                context -> insertEngineComparisonService.runComparison(totalRecords, batchSizes, options, context));
+    }
+
+    public JobStatus submitIndexExperiment(BenchmarkOperation operation, int totalRecords, int batchSize,
+            List<TestRecordIndex> indexes, List<IndexMaintenanceMode> modes, OperationOptions options) {
+        return submit("INDEX_EXPERIMENT_" + operation, totalRecords, batchSize,
+                context -> indexExperimentService.runExperiment(operation, totalRecords, batchSize, indexes, modes,
+                        options, context));
+    }
+
+    public JobStatus submitLoadTest(LoadTestOptions options) {
+        return submit("LOAD_" + options.getOperation(), options.getRecordsPerWorker(), options.getBatchSize(),
+                context -> loadService.runLoadTest(options, context));
+    }
+
+    public Optional<JobStatus> getJob(String operationId) {
+        return Optional.ofNullable(jobs.get(operationId)).map(PerformanceJob::toStatus);
+    }
+
+    public List<JobStatus> listJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((PerformanceJob job) -> job.submittedAt).reversed())
+                .map(PerformanceJob::toStatus)
+                .toList();
+    }
+
+    /**
+     * Request cancellation; queued jobs never start, running jobs stop before
+     * their next batch
+     */
+    public Optional<JobStatus> cancel(String operationId) {
+        PerformanceJob job = jobs.get(operationId);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        job.context.cancel();
+        synchronized (job) {
+            if (job.state == JobState.QUEUED && job.future.cancel(false)) {
+                job.finish(JobState.CANCELLED, null, "Cancelled before start");
+            }
+        }
+        log.info("🛑 [{}] Cancellation requested for {} job", operationId, job.operation);
+        return Optional.of(job.toStatus());
+    }
+
+    /**
+     * Drop finished jobs once they are older than the retention window
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.state.isFinished() && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.context.cancel());
+        executor.shutdown();
+    }
+
+    private JobStatus submit(String operation, int totalRecords, int batchSize,
+            Function<OperationContext, ?> runner) {
+        PerformanceJob job = new PerformanceJob(operation, totalRecords, batchSize);
+
+        // Published only once its future is set, so cancel() never sees a queued job without one
+        try {
+            job.future = executor.submit(() -> run(job, runner));
+        } catch (RejectedExecutionException e) {
+            throw new ResourceExhaustedException("Job queue is full, try again later");
+        }
+        jobs.put(job.context.getOperationId(), job);
+
+        log.info("📥 [{}] {} job queued: {} records with batch size {}",
+                job.context.getOperationId(), operation, totalRecords, batchSize);
+        return job.toStatus();
+    }
+
+    private void run(PerformanceJob job, Function<OperationContext, ?> runner) {
+        synchronized (job) {
+            if (job.state != JobState.QUEUED) {
+                return;
+            }
+            job.state = JobState.RUNNING;
+            job.startedAt = LocalDateTime.now();
+        }
+
+        try {
+            Object result = runner.apply(job.context);
+            job.finish(JobState.COMPLETED, result, null);
+        } catch (OperationCancelledException e) {
+            job.finish(JobState.CANCELLED, null, e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ [{}] {} job failed", job.context.getOperationId(), job.operation, e);
+            job.finish(JobState.FAILED, null, e.getMessage());
+        }
+    }
+
+    private static final class PerformanceJob {
+        private final OperationContext context = new OperationContext();
+        private final String operation;
+        private final int totalRecords;
+        private final int batchSize;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile Future<?> future;
+        private volatile JobState state = JobState.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile Object result;
+        private volatile String error;
+
+        private PerformanceJob(String operation, int totalRecords, int batchSize) {
+            this.operation = operation;
+            this.totalRecords = totalRecords;
+            this.batchSize = batchSize;
+        }
+
+        private synchronized void finish(JobState finalState, Object result, String error) {
+            this.result = result;
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.state = finalState;
+        }
+
+        private JobStatus toStatus() {
+            return JobStatus.builder()
+                    .operationId(context.getOperationId())
+                    .operation(operation)
+                    .state(state)
+                    .totalRecords(totalRecords)
+                    .batchSize(batchSize)
+                    .batchesCompleted(context.getBatchesCompleted())
+                    .expectedBatches(context.getExpectedBatches())
+                    .recordsProcessed(context.getRecordsProcessed())
+                    .rowsPerSecond(result instanceof PerformanceResult performanceResult
+                            ? performanceResult.getRecordsPerSecond()
+                            : context.getRowsPerSecond())
+                    .batchLatency(context.getBatchLatency())
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.vivek.service;
+
+import com.vivek.dto.BenchmarkOperation;
+import com.vivek.dto.LoadLevelResult;
+import com.vivek.dto.LoadTestOptions;
+import com.vivek.dto.LoadTestResult;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.TargetTable;
+import com.vivek.exception.OperationCancelledException;
+import com.vivek.exception.PerformanceOperationException;
+import com.vivek.exception.ValidationException;
+import com.vivek.repository.PerformanceTestRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent multi-client load generator
+ *
+ * Provides:
+ * - N workers per concurrency level, released together by a start latch
+ * - One connection and transaction per worker (REQUIRES_NEW inserts,
+ *   per-batch delete transactions)
+ * - Disjoint id ranges per delete worker, so workers never contend on rows
+ * - Aggregate throughput, merged latency percentiles and scaling efficiency
+ *   per level
+ *
+ * Note: the performance table is truncated before every level.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class PerformanceLoadService {
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceTestRepository repository;
+    private final PerformanceTableFixture tableFixture;
+    private final ConnectionPoolLimits connectionPoolLimits;
+
+    public PerformanceLoadService(PerformanceTestService performanceTestService,
+            PerformanceTestRepository repository, PerformanceTableFixture tableFixture,
+            ConnectionPoolLimits connectionPoolLimits) {
+        this.performanceTestService = performanceTestService;
+        this.repository = repository;
+        this.tableFixture = tableFixture;
+        this.connectionPoolLimits = connectionPoolLimits;
+    }
+
+    public LoadTestResult runLoadTest(LoadTestOptions options, OperationContext context) {
+        List<Integer> levels = validateLoadTest(options);
+
+        log.info("🚦 [{}] Load test started: {} with concurrency {} x {} records per worker (batch size {})",
+                context.getOperationId(), options.getOperation(), levels, options.getRecordsPerWorker(),
+                options.getBatchSize());
+
+        LocalDateTime startTime = LocalDateTime.now();
+        context.start(levels.size());
+
+        List<LoadLevelResult> results = new ArrayList<>();
+        for (int concurrency : levels) {
+            prepareTable(options, concurrency);
+
+            long levelStart = context.beginBatch();
+            LoadLevelResult levelResult = runLevel(options, concurrency, context);
+            context.endBatch(levelStart, (int) levelResult.getRecordsProcessed());
+
+            applyScaling(levelResult, results.isEmpty() ? levelResult : results.get(0));
+            results.add(levelResult);
+
+            log.info("🚦 [{}] concurrency {}: {} rows/s ({} per worker), batch p99 {} ms, efficiency {}",
+                    context.getOperationId(), concurrency, String.format("%.1f", levelResult.getRowsPerSecond()),
+                    String.format("%.1f", levelResult.getRowsPerSecondPerWorker()),
+                    String.format("%.2f", levelResult.getBatchLatency().getP99Ms()),
+                    String.format("%.2f", levelResult.getEfficiency()));
+        }
+
+        OperationOptions operationOptions = options.getOperationOptions();
+        return LoadTestResult.builder()
+                .operationId(context.getOperationId())
+                .operation(options.getOperation())
+                .strategy(options.getOperation() == BenchmarkOperation.INSERT
+                        ? operationOptions.getInsertStrategy().name()
+                        : operationOptions.getDeleteStrategy().name())
+                .batchSize(options.getBatchSize())
+                .recordsPerWorker(options.getRecordsPerWorker())
+                .connectionPoolSize(connectionPoolLimits.getMaximumPoolSize())
+                .levels(results)
+                .startTime(startTime)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private List<Integer> validateLoadTest(LoadTestOptions options) {
+        if (options.getOperation() == null) {
+            throw new ValidationException("Load test operation is required");
+        }
+        if (options.getConcurrencyLevels() == null || options.getConcurrencyLevels().isEmpty()) {
+            throw new ValidationException("At least one concurrency level is required");
+        }
+        if (options.getOperationOptions().getTargetTable() != TargetTable.STANDARD) {
+            throw new ValidationException("Load tests run against the standard table only");
+        }
+        if (options.getBatchSize() <= 0 || options.getBatchSize() > options.getRecordsPerWorker()) {
+            throw new ValidationException("Batch size must be between 1 and records per worker (%d)",
+                    options.getRecordsPerWorker());
+        }
+
+        int usableConnections = connectionPoolLimits.getUsableConnections();
+        List<Integer> levels = options.getConcurrencyLevels().stream().distinct().sorted().toList();
+        for (int concurrency : levels) {
+            if (concurrency < 1 || concurrency > usableConnections) {
+                throw new ValidationException("Concurrency %d must be between 1 and %d (pool size %d minus reserved)",
+                        concurrency, usableConnections, connectionPoolLimits.getMaximumPoolSize());
+            }
+        }
+        return levels;
+    }
+
+    private void prepareTable(LoadTestOptions options, int concurrency) {
+        if (options.getOperation() == BenchmarkOperation.DELETE) {
+            tableFixture.resetWithRecords(concurrency * options.getRecordsPerWorker());
+        } else {
+            tableFixture.reset();
+        }
+    }
+
+    private LoadLevelResult runLevel(LoadTestOptions options, int concurrency, OperationContext context) {
+        List<OperationContext> workerContexts = createWorkerContexts(options, concurrency, context);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger failedWorkers = new AtomicInteger(0);
+        AtomicInteger threadCounter = new AtomicInteger(0);
+
+        List<PerformanceResult> workerResults;
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency,
+                runnable -> new Thread(runnable, "perf-load-" + concurrency + "-" + threadCounter.incrementAndGet()))) {
+
+            List<Future<PerformanceResult>> futures = new ArrayList<>();
+            for (OperationContext workerContext : workerContexts) {
+                futures.add(workers.submit(() -> {
+                    startSignal.await();
+                    return runWorker(options, workerContext);
+                }));
+            }
+
+            startSignal.countDown();
+            workerResults = awaitWorkers(futures, failedWorkers, context);
+        }
+
+        long wallClockNanos = measuredWallClockNanos(workerResults);
+        long recordsProcessed = workerContexts.stream().mapToLong(OperationContext::getRecordsProcessed).sum();
+        double wallClockSeconds = wallClockNanos / 1_000_000_000.0;
+        double rowsPerSecond = wallClockSeconds > 0 ? recordsProcessed / wallClockSeconds : 0.0;
+
+        return LoadLevelResult.builder()
+                .concurrency(concurrency)
+                .recordsProcessed(recordsProcessed)
+                .wallClockMs(wallClockNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .rowsPerSecondPerWorker(rowsPerSecond / concurrency)
+                .failedWorkers(failedWorkers.get())
+                .batchLatency(OperationContext.combinedBatchLatency(workerContexts))
+                .recordLatency(OperationContext.combinedRecordLatency(workerContexts))
+                .build();
+    }
+
+    /**
+     * One child context per worker; delete workers each get an equal slice of
+     * the seeded id range
+     */
+    private List<OperationContext> createWorkerContexts(LoadTestOptions options, int concurrency,
+            OperationContext context) {
+        List<OperationContext> workerContexts = new ArrayList<>(concurrency);
+        long rangeStart = 0L;
+        for (int worker = 0; worker < concurrency; worker++) {
+            OperationContext workerContext = context.child("c" + concurrency + "-w" + worker);
+            if (options.getOperation() == BenchmarkOperation.DELETE) {
+                long lastOffset = (long) (worker + 1) * options.getRecordsPerWorker() - 1;
+                Long rangeEnd = repository.findIdAtOffset(lastOffset);
+                workerContext.restrictIds(rangeStart, rangeEnd != null ? rangeEnd : Long.MAX_VALUE - 1);
+                rangeStart = rangeEnd != null ? rangeEnd : rangeStart;
+            }
+            workerContexts.add(workerContext);
+        }
+        return workerContexts;
+    }
+
+    private PerformanceResult runWorker(LoadTestOptions options, OperationContext workerContext) {
+        return options.getOperation() == BenchmarkOperation.INSERT
+                ? performanceTestService.smartInsert(options.getRecordsPerWorker(), options.getBatchSize(),
+                        options.getOperationOptions(), workerContext)
+                : performanceTestService.smartDelete(options.getRecordsPerWorker(), options.getBatchSize(),
+                        options.getOperationOptions(), workerContext);
+    }
+
+    /**
+     * Earliest worker start to latest worker end, taken from the workers' own
+     * results so their post-run diagnostics and history capture are excluded
+     */
+    private long measuredWallClockNanos(List<PerformanceResult> workerResults) {
+        LocalDateTime firstStart = null;
+        LocalDateTime lastEnd = null;
+        for (PerformanceResult result : workerResults) {
+            if (firstStart == null || result.getStartTime().isBefore(firstStart)) {
+                firstStart = result.getStartTime();
+            }
+            if (lastEnd == null || result.getEndTime().isAfter(lastEnd)) {
+                lastEnd = result.getEndTime();
+            }
+        }
+        return firstStart != null ? Duration.between(firstStart, lastEnd).toNanos() : 0L;
+    }
+
+    /**
+     * Results of the workers that completed; failed workers are counted
+     */
+    private List<PerformanceResult> awaitWorkers(List<Future<PerformanceResult>> futures,
+            AtomicInteger failedWorkers, OperationContext context) {
+        List<PerformanceResult> results = new ArrayList<>(futures.size());
+        for (Future<PerformanceResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                context.cancel();
+                throw new PerformanceOperationException("Interrupted while waiting for load workers", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof OperationCancelledException) {
+                    continue;
+                }
+                failedWorkers.incrementAndGet();
+                log.error("❌ [{}] Load worker failed", context.getOperationId(), e.getCause());
+            }
+        }
+        if (context.isCancelled()) {
+            throw new OperationCancelledException("Operation %s was cancelled during a load level",
+                    context.getOperationId());
+        }
+        return results;
+    }
+
+    private void applyScaling(LoadLevelResult level, LoadLevelResult baseline) {
+        if (baseline.getRowsPerSecond() <= 0) {
+            return;
+        }
+        double speedup = level.getRowsPerSecond() / baseline.getRowsPerSecond();
+        double idealSpeedup = (double) level.getConcurrency() / baseline.getConcurrency();
+        level.setSpeedup(speedup);
+        level.setEfficiency(speedup / idealSpeedup);
+    }
+}
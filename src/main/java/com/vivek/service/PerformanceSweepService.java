@@ -0,0 +1,124 @@
+package com.vivek.service;
+
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.SweepPoint;
+import com.vivek.dto.SweepResult;
+import com.vivek.exception.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Batch-size sweep across the configured performance.test.batch-sizes
+ *
+ * Provides:
+ * - Insert then delete at every batch size
+ * - Identical starting table state for every run (empty before inserts,
+ *   exactly totalRecords rows before deletes)
+ * - One combined series ready for the dashboard charts
+ *
+ * Note: the performance table is truncated before every run.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class PerformanceSweepService {
+
+    private final PerformanceTestService performanceTestService;
+    private final PerformanceTableFixture tableFixture;
+    private final List<Integer> configuredBatchSizes;
+
+    public PerformanceSweepService(PerformanceTestService performanceTestService,
+            PerformanceTableFixture tableFixture,
+            @Value("${performance.test.batch-sizes:1,10,100,1000,10000}") List<Integer> configuredBatchSizes) {
+        this.performanceTestService = performanceTestService;
+        this.tableFixture = tableFixture;
+        this.configuredBatchSizes = List.copyOf(configuredBatchSizes);
+    }
+
+    public List<Integer> getConfiguredBatchSizes() {
+        return configuredBatchSizes;
+    }
+
+    /**
+     * Run the sweep; batch sizes default to the configured list and sizes
+     * larger than totalRecords are skipped
+     */
+    public SweepResult runSweep(int totalRecords, List<Integer> batchSizes, OperationOptions options,
+            OperationContext context) {
+        List<Integer> requested = batchSizes == null || batchSizes.isEmpty() ? configuredBatchSizes : batchSizes;
+        List<Integer> runnable = requested.stream().filter(size -> size > 0 && size <= totalRecords).sorted().toList();
+        List<Integer> skipped = requested.stream().filter(size -> !runnable.contains(size)).toList();
+
+        if (runnable.isEmpty()) {
+            throw new ValidationException("No batch size in %s fits within %d records", requested, totalRecords);
+        }
+        if (!skipped.isEmpty()) {
+            log.warn("⚠️ [{}] Skipping batch sizes {} (larger than {} records)", context.getOperationId(), skipped,
+                    totalRecords);
+        }
+
+        log.info("📈 [{}] Batch-size sweep started: {} records at batch sizes {}", context.getOperationId(),
+                totalRecords, runnable);
+
+        LocalDateTime startTime = LocalDateTime.now();
+        context.start(runnable.size() * 2);
+
+        List<SweepPoint> points = new ArrayList<>();
+        List<PerformanceResult> results = new ArrayList<>();
+        for (int batchSize : runnable) {
+            tableFixture.reset(options.getTargetTable());
+            PerformanceResult insertResult = runStep(context, "insert-" + batchSize,
+                    child -> performanceTestService.smartInsert(totalRecords, batchSize, options, child));
+
+            tableFixture.resetWithRecords(options.getTargetTable(), totalRecords);
+            PerformanceResult deleteResult = runStep(context, "delete-" + batchSize,
+                    child -> performanceTestService.smartDelete(totalRecords, batchSize, options, child));
+
+            results.add(insertResult);
+            results.add(deleteResult);
+            points.add(SweepPoint.builder()
+                    .name("Batch " + batchSize)
+                    .batchSize(batchSize)
+                    .insert(insertResult.getRecordsPerSecond())
+                    .delete(deleteResult.getRecordsPerSecond())
+                    .insertP99Ms(insertResult.getBatchLatency().getP99Ms())
+                    .deleteP99Ms(deleteResult.getBatchLatency().getP99Ms())
+                    .build());
+
+            log.info("📈 [{}] batch size {}: insert {} rows/s, delete {} rows/s", context.getOperationId(), batchSize,
+                    String.format("%.1f", insertResult.getRecordsPerSecond()),
+                    String.format("%.1f", deleteResult.getRecordsPerSecond()));
+        }
+
+        return SweepResult.builder()
+                .operationId(context.getOperationId())
+                .totalRecords(totalRecords)
+                .insertStrategy(options.getInsertStrategy().name())
+                .deleteStrategy(options.getDeleteStrategy().name())
+                .batchSizes(runnable)
+                .skippedBatchSizes(skipped)
+                .points(points)
+                .results(results)
+                .startTime(startTime)
+                .endTime(LocalDateTime.now())
+                .build();
+    }
+
+    private PerformanceResult runStep(OperationContext context, String step,
+            Function<OperationContext, PerformanceResult> runner) {
+        long stepStart = context.beginBatch();
+        PerformanceResult result = runner.apply(context.child(step));
+        context.endBatch(stepStart, result.getRecordsProcessed());
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.vivek.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.vivek.dto.TargetTable;
+import com.vivek.model.PerformanceTestRecord;
+import com.vivek.repository.PerformanceTestJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts the performance table into a known state before a measurement
+ *
+ * Provides:
+ * - Empty table (before insert measurements)
+ * - Table holding exactly N records (before delete measurements)
+ *
+ * Either the standard table or its UNLOGGED clone can be prepared; only the
+ * standard table feeds the record-count tracker.
+ *
+ * Seeding uses COPY and the FAST record generator so preparing a delete run
+ * costs little next to the run itself. Nothing here is measured.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class PerformanceTableFixture {
+
+    private static final int SEED_CHUNK_SIZE = 10000;
+
+    private final PerformanceTestJdbcRepository jdbcRepository;
+    private final RecordCountTracker recordCountTracker;
+
+    public PerformanceTableFixture(PerformanceTestJdbcRepository jdbcRepository,
+            RecordCountTracker recordCountTracker) {
+        this.jdbcRepository = jdbcRepository;
+        this.recordCountTracker = recordCountTracker;
+    }
+
+    public void reset() {
+        reset(TargetTable.STANDARD);
+    }
+
+    public void reset(TargetTable table) {
+        if (table == TargetTable.UNLOGGED) {
+            jdbcRepository.ensureUnloggedClone();
+        }
+        jdbcRepository.truncate(table);
+        if (table == TargetTable.STANDARD) {
+            recordCountTracker.reset(0);
+        }
+        log.debug("🧹 {} truncated", table.tableName());
+    }
+
+    public void resetWithRecords(int recordCount) {
+        resetWithRecords(TargetTable.STANDARD, recordCount);
+    }
+
+    public void resetWithRecords(TargetTable table, int recordCount) {
+        reset(table);
+        for (int i = 0; i < recordCount; i += SEED_CHUNK_SIZE) {
+            int end = Math.min(i + SEED_CHUNK_SIZE, recordCount);
+            List<PerformanceTestRecord> chunk = new ArrayList<>(end - i);
+            for (int j = i; j < end; j++) {
+                chunk.add(FastTestRecordGenerator.INSTANCE.identityRecord(j));
+            }
+            long inserted = jdbcRepository.copyInsert(table, chunk);
+            if (table == TargetTable.STANDARD) {
+                recordCountTracker.recordsInserted(inserted);
+            }
+        }
+        log.debug("🌱 {} seeded with {} records", table.tableName(), recordCount);
+    }
+}
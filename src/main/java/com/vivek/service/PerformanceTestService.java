@@ -1,38 +1,73 @@
 package com.vivek.service;
 
+import com.vivek.dto.DatabaseIoUsage;
 import com.vivek.dto.DatabaseStats;
+import com.vivek.dto.DeleteStrategy;
+import com.vivek.dto.ExecutionMode;
+import com.vivek.dto.ExplainPlanSummary;
+import com.vivek.dto.IdStrategy;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.OperationOptions;
 import com.vivek.dto.PerformanceResult;
+import com.vivek.dto.ResourceUsage;
+import com.vivek.dto.TargetTable;
 import com.vivek.exception.*;
+import com.vivek.model.AbstractPerformanceTestRecord;
+import com.vivek.model.PerformancePooledTestRecord;
 import com.vivek.model.PerformanceTestRecord;
+import com.vivek.repository.PerformancePooledTestRepository;
+import com.vivek.repository.PerformanceTestJdbcRepository;
 import com.vivek.repository.PerformanceTestRepository;
+import com.vivek.repository.PerformanceTestStatelessRepository;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 
 @Slf4j
 @Service
 public class PerformanceTestService {
 
+    // Ids fetched per keyset page when deleting one row at a time
+    private static final int SINGLE_DELETE_ID_PAGE_SIZE = 1000;
+
     private final PerformanceTestRepository repository;
+    private final PerformancePooledTestRepository pooledRepository;
+    private final PerformanceTestJdbcRepository jdbcRepository;
+    private final PerformanceTestStatelessRepository statelessRepository;
+    private final PerformanceHistoryService historyService;
+    private final RecordCountTracker recordCountTracker;
+    private final ConnectionPoolLimits connectionPoolLimits;
+    private final HibernateStatisticsTracker hibernateStatistics;
+    private final ResourceUsageTracker resourceUsageTracker;
+    private final DatabaseIoTracker databaseIoTracker;
+    private final BatchExplainService batchExplainService;
+    private final JfrRecordingService jfrRecordingService;
+    private final PlatformTransactionManager transactionManager;
+    private final PlatformTransactionManager rewriteTransactionManager;
     private final MeterRegistry meterRegistry;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     // Configuration
     @Value("${performance.test.max-records-per-operation:100000}")
     private int maxRecordsPerOperation;
@@ -43,6 +78,9 @@ public class PerformanceTestService {
     @Value("${performance.test.memory-threshold-mb:1024}")
     private long memoryThresholdMb;
 
+    @Value("${performance.datasource.rewrite-batched-inserts:false}")
+    private boolean primaryPoolRewritesBatches;
+
     // Metrics
     private final Counter totalOperationsCounter;
     private final Counter successfulOperationsCounter;
@@ -53,13 +91,38 @@ public class PerformanceTestService {
     private final Timer singleDeletionTimer;
     private final Timer batchInsertionTimer;
     private final Timer singleInsertionTimer;
+    private final Timer copyInsertionTimer;
+    private final Timer jdbcBatchInsertionTimer;
+    private final Timer statelessInsertionTimer;
+    private final Timer multiRowInsertionTimer;
 
     // Operation tracking
     private final AtomicInteger activeOperations = new AtomicInteger(0);
 
     @Autowired
-    public PerformanceTestService(PerformanceTestRepository repository, MeterRegistry meterRegistry) {
+    public PerformanceTestService(PerformanceTestRepository repository,
+            PerformancePooledTestRepository pooledRepository, PerformanceTestJdbcRepository jdbcRepository,
+            PerformanceTestStatelessRepository statelessRepository, PerformanceHistoryService historyService,
+            RecordCountTracker recordCountTracker, ConnectionPoolLimits connectionPoolLimits,
+            HibernateStatisticsTracker hibernateStatistics, ResourceUsageTracker resourceUsageTracker,
+            DatabaseIoTracker databaseIoTracker, BatchExplainService batchExplainService,
+            JfrRecordingService jfrRecordingService, PlatformTransactionManager transactionManager,
+            @Qualifier("rewriteBatchedInsertsTransactionManager") PlatformTransactionManager rewriteTransactionManager,
+            MeterRegistry meterRegistry) {
         this.repository = repository;
+        this.pooledRepository = pooledRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.statelessRepository = statelessRepository;
+        this.historyService = historyService;
+        this.recordCountTracker = recordCountTracker;
+        this.connectionPoolLimits = connectionPoolLimits;
+        this.hibernateStatistics = hibernateStatistics;
+        this.resourceUsageTracker = resourceUsageTracker;
+        this.databaseIoTracker = databaseIoTracker;
+        this.batchExplainService = batchExplainService;
+        this.jfrRecordingService = jfrRecordingService;
+        this.transactionManager = transactionManager;
+        this.rewriteTransactionManager = rewriteTransactionManager;
         this.meterRegistry = meterRegistry;
 
         // Initialize metrics
@@ -98,46 +161,146 @@ public class PerformanceTestService {
         this.singleInsertionTimer = Timer.builder("performance.insertion.single")
                 .description("Time taken for single insertion operations")
                 .register(meterRegistry);
+
+        this.copyInsertionTimer = Timer.builder("performance.insertion.copy")
+                .description("Time taken for COPY-based insertion operations")
+                .register(meterRegistry);
+
+        this.jdbcBatchInsertionTimer = Timer.builder("performance.insertion.jdbc")
+                .description("Time taken for plain JDBC batch insertion operations")
+                .register(meterRegistry);
+
+        this.statelessInsertionTimer = Timer.builder("performance.insertion.stateless")
+                .description("Time taken for StatelessSession insertion operations")
+                .register(meterRegistry);
+
+        this.multiRowInsertionTimer = Timer.builder("performance.insertion.multi-row")
+                .description("Time taken for multi-row VALUES insertion operations")
+                .register(meterRegistry);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, timeout = 300)
-    public PerformanceResult smartInsert(int totalRecords, int batchSize) {
-        String operationId = UUID.randomUUID().toString();
-        log.info("📝 [{}] Smart Insert started: {} records with batch size {}",
-                operationId, totalRecords, batchSize);
+    public PerformanceResult smartInsert(int totalRecords, int batchSize, OperationOptions options) {
+        return smartInsert(totalRecords, batchSize, options, new OperationContext());
+    }
+
+    /**
+     * Insert variant driven by a caller-owned context, used by asynchronous
+     * jobs to observe progress and cancel between batches
+     *
+     * Runs in its own transactions (REQUIRES_NEW): one for the whole
+     * operation unless a commit interval is set
+     */
+    public PerformanceResult smartInsert(int totalRecords, int batchSize, OperationOptions options,
+            OperationContext context) {
+        String operationId = context.getOperationId();
+        InsertStrategy strategy = options.getInsertStrategy();
+        boolean entityIds = strategy == InsertStrategy.JPA_BATCH || strategy == InsertStrategy.STATELESS_SESSION;
+        boolean pooledIds = entityIds && options.getIdStrategy() == IdStrategy.POOLED_SEQUENCE;
+        boolean jpaSingleRow = batchSize == 1 && strategy == InsertStrategy.JPA_BATCH;
+        boolean virtualThreads = jpaSingleRow && options.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS;
+        TargetTable table = options.getTargetTable();
+        boolean rewritePool = strategy == InsertStrategy.JDBC_BATCH && options.isDriverRewrite();
+        TestRecordGenerator generator = TestRecordGenerator.of(options.getRecordGenerator());
+        log.info("📝 [{}] Smart Insert started: {} records with batch size {} using {} ({} ids, {}, {} generator, "
+                + "{} table{})", operationId, totalRecords, batchSize, strategy, options.getIdStrategy(),
+                virtualThreads ? ExecutionMode.VIRTUAL_THREADS : ExecutionMode.SEQUENTIAL,
+                options.getRecordGenerator(), table,
+                options.isAsynchronousCommit() ? ", asynchronous commit" : "");
 
         validateInsertOperation(totalRecords, batchSize, operationId);
+        validateDurabilityOptions(options, strategy == InsertStrategy.JPA_BATCH
+                || strategy == InsertStrategy.STATELESS_SESSION, virtualThreads);
+        if (options.isDriverRewrite() && strategy != InsertStrategy.JDBC_BATCH) {
+            throw new ValidationException("Driver rewriting (reWriteBatchedInserts) applies to JDBC_BATCH only");
+        }
         checkSystemResources(operationId);
+        prepareTargetTable(table);
+        CommitScope commitScope = createCommitScope(options, CommitScope.WHOLE_OPERATION, rewritePool,
+                table == TargetTable.STANDARD ? recordCountTracker::recordsInserted : null);
+        JfrCapture jfrCapture = options.isJfrRecording()
+                ? jfrRecordingService.start(operationId)
+                : JfrCapture.DISABLED;
 
         activeOperations.incrementAndGet();
         totalOperationsCounter.increment();
 
         try {
             LocalDateTime startTime = LocalDateTime.now();
-            long startMemory = getUsedMemory();
+            ResourceUsageTracker.Snapshot resourceStart = resourceUsageTracker.snapshot();
+            DatabaseIoTracker.Snapshot databaseIoStart = options.isDatabaseIoAccounting()
+                    ? databaseIoTracker.snapshot(table)
+                    : null;
+            HibernateStatisticsTracker.Snapshot statisticsStart = hibernateStatistics.snapshot();
 
             Timer.Sample sample = Timer.start(meterRegistry);
-            Timer timerToUse = batchSize == 1 ? singleInsertionTimer : batchInsertionTimer;
+            Timer timerToUse = switch (strategy) {
+                case COPY -> copyInsertionTimer;
+                case JDBC_BATCH -> jdbcBatchInsertionTimer;
+                case STATELESS_SESSION -> statelessInsertionTimer;
+                case MULTI_ROW_VALUES -> multiRowInsertionTimer;
+                case JPA_BATCH -> batchSize == 1 ? singleInsertionTimer : batchInsertionTimer;
+            };
 
             int totalInserted;
             int operationCount;
 
-            if (batchSize == 1) {
-                totalInserted = performSingleInserts(totalRecords, operationId);
+            ManagedBatchSession batchSession = new ManagedBatchSession(entityManager,
+                    options.isClearPersistenceContext());
+            boolean managedEntities = strategy == InsertStrategy.JPA_BATCH && !virtualThreads;
+            String latencyTag = virtualThreads ? "SINGLE_VIRTUAL"
+                    : jpaSingleRow ? "SINGLE"
+                    : rewritePool ? "JDBC_BATCH_REWRITE" : strategy.name();
+            context.start(expectedBatches(totalRecords, batchSize), batchLatencyTimer("insert", latencyTag));
+            context.describeBatches("insert", batchSize);
+            if (strategy == InsertStrategy.COPY) {
+                var copyResult = performCopyInserts(table, totalRecords, batchSize, generator, commitScope,
+                        context);
+                totalInserted = copyResult.inserted;
+                operationCount = copyResult.batches;
+            } else if (strategy == InsertStrategy.JDBC_BATCH) {
+                var jdbcResult = performJdbcBatchInserts(table, totalRecords, batchSize, rewritePool, generator,
+                        commitScope, context);
+                totalInserted = jdbcResult.inserted;
+                operationCount = jdbcResult.batches;
+            } else if (strategy == InsertStrategy.MULTI_ROW_VALUES) {
+                var multiRowResult = performMultiRowInserts(table, totalRecords, batchSize, generator,
+                        commitScope, context);
+                totalInserted = multiRowResult.inserted;
+                operationCount = multiRowResult.batches;
+            } else if (strategy == InsertStrategy.STATELESS_SESSION) {
+                var statelessResult = performStatelessInserts(totalRecords, batchSize, pooledIds, generator,
+                        commitScope, context);
+                totalInserted = statelessResult.inserted;
+                operationCount = statelessResult.batches;
+            } else if (virtualThreads) {
+                totalInserted = performConcurrentSingleInserts(totalRecords, pooledIds, generator, context);
+                operationCount = totalRecords;
+            } else if (jpaSingleRow) {
+                totalInserted = performSingleInserts(totalRecords, pooledIds, generator, batchSession,
+                        commitScope, context);
                 operationCount = totalRecords;
             } else {
-                var result = performBatchInserts(totalRecords, batchSize, operationId);
-                totalInserted = result.inserted;
-                operationCount = result.batches;
+                var batchResult = performBatchInserts(totalRecords, batchSize, pooledIds, generator, batchSession,
+                        commitScope, context);
+                totalInserted = batchResult.inserted;
+                operationCount = batchResult.batches;
             }
+            commitScope.complete();
+            // Taken before the recording is dumped, so post-run work never counts towards the run
+            LocalDateTime endTime = LocalDateTime.now();
+            Duration duration = Duration.between(startTime, endTime);
 
             sample.stop(timerToUse);
+            String jfrRecording = jfrCapture.stop();
             insertedRecordsCounter.increment(totalInserted);
             successfulOperationsCounter.increment();
 
-            LocalDateTime endTime = LocalDateTime.now();
-            long endMemory = getUsedMemory();
-            Duration duration = Duration.between(startTime, endTime);
+            ResourceUsage resourceUsage = resourceUsageTracker.since(resourceStart, totalInserted, !virtualThreads);
+            DatabaseIoUsage databaseIo = databaseIoTracker.since(databaseIoStart, totalInserted);
+            // Explained after the run so indexes are at the run's size; the savepoint is rolled back
+            ExplainPlanSummary explainPlan = options.isExplainBatch()
+                    ? batchExplainService.explainInsert(table, strategy, batchSize, generator)
+                    : null;
 
             double recordsPerSecond = totalInserted > 0 && duration.toMillis() > 0
                     ? (double) totalInserted / (duration.toMillis() / 1000.0)
@@ -147,38 +310,88 @@ public class PerformanceTestService {
                     ? (double) duration.toMillis() / totalInserted
                     : 0.0;
 
-            return PerformanceResult.builder()
-                    .testType(batchSize == 1 ? "SINGLE_INSERTION" : "BATCH_INSERTION")
+            PerformanceResult result = PerformanceResult.builder()
+                    .testType(resolveInsertTestType(strategy, batchSize))
+                    .strategy(strategy.name())
+                    .idStrategy(entityIds ? options.getIdStrategy().name() : null)
+                    .executionMode(jpaSingleRow ? options.getExecutionMode().name() : null)
+                    .commitInterval(virtualThreads ? null : commitScope.getCommitInterval())
+                    .transactionsCommitted(virtualThreads ? totalInserted : commitScope.getCommits())
+                    .targetTable(table.name())
+                    .asynchronousCommit(options.isAsynchronousCommit())
+                    .recordGenerator(options.getRecordGenerator().name())
+                    .driverRewrite(strategy == InsertStrategy.JDBC_BATCH || strategy == InsertStrategy.JPA_BATCH
+                            ? rewritePool || primaryPoolRewritesBatches : null)
                     .batchSize(batchSize)
                     .recordsProcessed(totalInserted)
                     .durationMs(duration.toMillis())
                     .averageTimePerRecord(avgTimePerRecord)
-                    .memoryUsedMB(Math.abs(endMemory - startMemory) / (1024 * 1024))
+                    .memoryUsedMB(allocatedMegabytes(resourceUsage))
                     .recordsPerSecond(recordsPerSecond)
                     .batchCount(operationCount)
+                    .batchLatency(context.getBatchLatency())
+                    .recordLatency(context.getRecordLatency())
+                    .hibernateStatistics(hibernateStatistics.since(statisticsStart))
+                    .resourceUsage(resourceUsage)
+                    .databaseIo(databaseIo)
+                    .explainPlan(explainPlan)
+                    .jfrRecording(jfrRecording)
+                    .persistenceContextCleared(managedEntities ? options.isClearPersistenceContext() : null)
+                    .peakManagedEntities(managedEntities ? batchSession.getPeakManagedEntities() : null)
                     .startTime(startTime)
                     .endTime(endTime)
                     .operationId(operationId)
                     .build();
+
+            if (!context.isExcludedFromHistory()) {
+                historyService.record(result);
+            }
+            return result;
+        } catch (OperationCancelledException e) {
+            log.warn("🛑 [{}] Smart insert cancelled after {} batches, rolling back uncommitted rows", operationId,
+                    context.getBatchesCompleted());
+            throw e;
         } catch (Exception e) {
             failedOperationsCounter.increment();
             log.error("❌ [{}] Smart insert failed", operationId, e);
             throw new PerformanceOperationException("Smart insert failed: " + e.getMessage(), e);
         } finally {
+            commitScope.rollbackIfActive();
+            jfrCapture.close();
             activeOperations.decrementAndGet();
         }
     }
 
-    public PerformanceResult smartDelete(int totalRecords, int batchSize) {
-        String operationId = UUID.randomUUID().toString();
-        log.info("🗑️ [{}] Smart Delete started: {} records with batch size {}",
-                operationId, totalRecords, batchSize);
+    public PerformanceResult smartDelete(int totalRecords, int batchSize, OperationOptions options) {
+        return smartDelete(totalRecords, batchSize, options, new OperationContext());
+    }
+
+    /**
+     * Delete variant driven by a caller-owned context, used by asynchronous
+     * jobs to observe progress and cancel between batches
+     *
+     * Commits after every batch unless a commit interval is set
+     */
+    public PerformanceResult smartDelete(int totalRecords, int batchSize, OperationOptions options,
+            OperationContext context) {
+        String operationId = context.getOperationId();
+        DeleteStrategy strategy = options.getDeleteStrategy();
+        boolean virtualThreads = batchSize == 1 && options.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS;
+        TargetTable table = options.getTargetTable();
+        log.info("🗑️ [{}] Smart Delete started: {} records with batch size {} using {} ({} table{})",
+                operationId, totalRecords, batchSize, virtualThreads ? ExecutionMode.VIRTUAL_THREADS : strategy,
+                table, options.isAsynchronousCommit() ? ", asynchronous commit" : "");
 
         validateDeleteOperation(totalRecords, batchSize, operationId);
+        validateDurabilityOptions(options, batchSize == 1 || strategy != DeleteStrategy.ANY_ARRAY, virtualThreads);
+        prepareTargetTable(table);
 
-        Long availableRecords = repository.getTotalRecordCount();
+        // Bounded count: scans at most totalRecords rows, unlike a full COUNT
+        long availableRecords = table == TargetTable.STANDARD
+                ? repository.countUpTo(totalRecords)
+                : jdbcRepository.countUpTo(table, totalRecords);
         if (availableRecords < totalRecords) {
-            totalRecords = availableRecords.intValue();
+            totalRecords = (int) availableRecords;
             log.warn("⚠️ [{}] Only {} records available for deletion, adjusting target",
                     operationId, totalRecords);
         }
@@ -186,37 +399,61 @@ public class PerformanceTestService {
         if (totalRecords == 0) {
             throw new InsufficientResourcesException("No records available for deletion");
         }
+        // Explained before the run, which still needs the rows; the savepoint is rolled back
+        ExplainPlanSummary explainPlan = options.isExplainBatch()
+                ? batchExplainService.explainDelete(table, strategy, batchSize, context.getStartAfterId())
+                : null;
+        CommitScope commitScope = createCommitScope(options, 1, false,
+                table == TargetTable.STANDARD ? recordCountTracker::recordsDeleted : null);
+        JfrCapture jfrCapture = options.isJfrRecording()
+                ? jfrRecordingService.start(operationId)
+                : JfrCapture.DISABLED;
 
         activeOperations.incrementAndGet();
         totalOperationsCounter.increment();
 
         try {
             LocalDateTime startTime = LocalDateTime.now();
-            long startMemory = getUsedMemory();
+            ResourceUsageTracker.Snapshot resourceStart = resourceUsageTracker.snapshot();
+            DatabaseIoTracker.Snapshot databaseIoStart = options.isDatabaseIoAccounting()
+                    ? databaseIoTracker.snapshot(table)
+                    : null;
+            HibernateStatisticsTracker.Snapshot statisticsStart = hibernateStatistics.snapshot();
 
             Timer.Sample sample = Timer.start(meterRegistry);
             Timer timerToUse = batchSize == 1 ? singleDeletionTimer : batchDeletionTimer;
 
-            List<Long> idsToDelete = getIdsForDeletion(totalRecords, operationId);
+            KeysetIdCursor.PageLoader pageLoader = idPageLoader(table, context);
+            KeysetIdCursor idCursor = new KeysetIdCursor(pageLoader, context.getStartAfterId(), totalRecords);
             int totalDeleted;
             int operationCount;
 
-            if (batchSize == 1) {
-                totalDeleted = performSingleDeletes(idsToDelete, operationId);
+            String latencyTag = virtualThreads ? "SINGLE_VIRTUAL" : batchSize == 1 ? "SINGLE" : strategy.name();
+            context.start(expectedBatches(totalRecords, batchSize), batchLatencyTimer("delete", latencyTag));
+            context.describeBatches("delete", batchSize);
+            if (virtualThreads) {
+                totalDeleted = performConcurrentSingleDeletes(idCursor, context);
+                operationCount = totalDeleted;
+            } else if (batchSize == 1) {
+                totalDeleted = performSingleDeletes(idCursor, commitScope, context);
                 operationCount = totalDeleted;
             } else {
-                var result = performBatchDeletes(idsToDelete, batchSize, operationId);
-                totalDeleted = result.deleted;
-                operationCount = result.batches;
+                var batchResult = performBatchDeletes(table, idCursor, batchSize, strategy, commitScope, context);
+                totalDeleted = batchResult.deleted;
+                operationCount = batchResult.batches;
             }
+            commitScope.complete();
+            // Taken before the recording is dumped, so post-run work never counts towards the run
+            LocalDateTime endTime = LocalDateTime.now();
+            Duration duration = Duration.between(startTime, endTime);
 
             sample.stop(timerToUse);
+            String jfrRecording = jfrCapture.stop();
             deletedRecordsCounter.increment(totalDeleted);
             successfulOperationsCounter.increment();
 
-            LocalDateTime endTime = LocalDateTime.now();
-            long endMemory = getUsedMemory();
-            Duration duration = Duration.between(startTime, endTime);
+            ResourceUsage resourceUsage = resourceUsageTracker.since(resourceStart, totalDeleted, !virtualThreads);
+            DatabaseIoUsage databaseIo = databaseIoTracker.since(databaseIoStart, totalDeleted);
 
             double recordsPerSecond = totalDeleted > 0 && duration.toMillis() > 0
                     ? (double) totalDeleted / (duration.toMillis() / 1000.0)
@@ -226,19 +463,41 @@ public class PerformanceTestService {
                     ? (double) duration.toMillis() / totalDeleted
                     : 0.0;
 
-            return PerformanceResult.builder()
+            PerformanceResult result = PerformanceResult.builder()
                     .testType(batchSize == 1 ? "SINGLE_DELETION" : "BATCH_DELETION")
+                    .strategy(batchSize == 1 ? null : strategy.name())
+                    .executionMode(batchSize == 1 ? options.getExecutionMode().name() : null)
+                    .commitInterval(virtualThreads ? null : commitScope.getCommitInterval())
+                    .transactionsCommitted(virtualThreads ? totalDeleted : commitScope.getCommits())
+                    .targetTable(table.name())
+                    .asynchronousCommit(options.isAsynchronousCommit())
                     .batchSize(batchSize)
                     .recordsProcessed(totalDeleted)
                     .durationMs(duration.toMillis())
                     .averageTimePerRecord(avgTimePerRecord)
-                    .memoryUsedMB(Math.abs(endMemory - startMemory) / (1024 * 1024))
+                    .memoryUsedMB(allocatedMegabytes(resourceUsage))
                     .recordsPerSecond(recordsPerSecond)
                     .batchCount(operationCount)
+                    .batchLatency(context.getBatchLatency())
+                    .recordLatency(context.getRecordLatency())
+                    .hibernateStatistics(hibernateStatistics.since(statisticsStart))
+                    .resourceUsage(resourceUsage)
+                    .databaseIo(databaseIo)
+                    .explainPlan(explainPlan)
+                    .jfrRecording(jfrRecording)
                     .startTime(startTime)
                     .endTime(endTime)
                     .operationId(operationId)
                     .build();
+
+            if (!context.isExcludedFromHistory()) {
+                historyService.record(result);
+            }
+            return result;
+        } catch (OperationCancelledException e) {
+            log.warn("🛑 [{}] Smart delete cancelled after {} batches, rolling back uncommitted rows", operationId,
+                    context.getBatchesCompleted());
+            throw e;
         } catch (DataAccessException e) {
             failedOperationsCounter.increment();
             log.error("❌ [{}] Database error during smart delete", operationId, e);
@@ -249,14 +508,20 @@ public class PerformanceTestService {
             log.error("❌ [{}] Unexpected error during smart delete", operationId, e);
             throw new PerformanceOperationException("Smart delete operation failed unexpectedly", e);
         } finally {
+            commitScope.rollbackIfActive();
+            jfrCapture.close();
             activeOperations.decrementAndGet();
         }
     }
 
+    /**
+     * Database statistics; the record count is a catalog-based estimate unless
+     * {@code exactCount} is set, which costs a full table scan
+     */
     @Retryable(value = { DataAccessException.class }, maxAttempts = 3, backoff = @Backoff(delay = 500))
-    public DatabaseStats getDatabaseStats() {
+    public DatabaseStats getDatabaseStats(boolean exactCount) {
         try {
-            Long totalRecords = repository.getTotalRecordCount();
+            long totalRecords = exactCount ? recordCountTracker.exact() : recordCountTracker.estimate();
             String tableSize = "N/A";
             String connectionInfo = "N/A";
 
@@ -274,7 +539,8 @@ public class PerformanceTestService {
             }
 
             return DatabaseStats.builder()
-                    .totalRecords(totalRecords != null ? totalRecords : 0L)
+                    .totalRecords(totalRecords)
+                    .recordCountExact(exactCount)
                     .tableSize(tableSize)
                     .connectionInfo(connectionInfo)
                     .timestamp(LocalDateTime.now())
@@ -299,6 +565,65 @@ public class PerformanceTestService {
         }
     }
 
+    /**
+     * UNLOGGED runs need an engine that takes a table name, and asynchronous
+     * commit needs the commit scope that virtual-thread rows bypass
+     */
+    private void validateDurabilityOptions(OperationOptions options, boolean entityMappedEngine,
+            boolean virtualThreads) {
+        if (options.getTargetTable() == TargetTable.UNLOGGED && entityMappedEngine) {
+            throw new ValidationException(
+                    "The UNLOGGED table requires JDBC_BATCH or COPY inserts, or ANY_ARRAY deletes with batch size > 1");
+        }
+        if (options.isAsynchronousCommit() && virtualThreads) {
+            throw new ValidationException("Asynchronous commit is not supported with VIRTUAL_THREADS execution");
+        }
+    }
+
+    private void prepareTargetTable(TargetTable table) {
+        if (table == TargetTable.UNLOGGED) {
+            jdbcRepository.ensureUnloggedClone();
+        }
+    }
+
+    /**
+     * Transactions come from the rewrite pool's manager when the run uses
+     * that pool, so the JDBC template there joins them. committedRows, if
+     * given, is told the row count of every commit (record-count tracking).
+     */
+    private CommitScope createCommitScope(OperationOptions options, int defaultCommitInterval,
+            boolean rewritePool, LongConsumer committedRows) {
+        return new CommitScope(rewritePool ? rewriteTransactionManager : transactionManager,
+                resolveCommitInterval(options, defaultCommitInterval),
+                options.isAsynchronousCommit() ? () -> jdbcRepository.useAsynchronousCommit(rewritePool) : null,
+                committedRows);
+    }
+
+    private KeysetIdCursor.PageLoader idPageLoader(TargetTable table, OperationContext context) {
+        if (table == TargetTable.STANDARD) {
+            return context.hasIdLimit()
+                    ? (lastId, limit) -> repository.findIdsInRange(lastId, context.getMaxId(), limit)
+                    : repository::findIdsAfter;
+        }
+        return context.hasIdLimit()
+                ? (lastId, limit) -> jdbcRepository.findIdsInRange(table, lastId, context.getMaxId(), limit)
+                : (lastId, limit) -> jdbcRepository.findIdsAfter(table, lastId, limit);
+    }
+
+    /**
+     * Commit interval in batches; 0 commits once for the whole operation
+     */
+    private int resolveCommitInterval(OperationOptions options, int operationDefault) {
+        Integer commitInterval = options.getCommitInterval();
+        if (commitInterval == null) {
+            return operationDefault;
+        }
+        if (commitInterval < 0) {
+            throw new ValidationException("Commit interval must be 0 (whole operation) or a positive batch count");
+        }
+        return commitInterval;
+    }
+
     private void checkSystemResources(String operationId) {
         Runtime runtime = Runtime.getRuntime();
         if (((double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory()) > 0.9) {
@@ -306,54 +631,266 @@ public class PerformanceTestService {
         }
     }
 
-    private int performSingleInserts(int totalRecords, String operationId) {
+    private int performSingleInserts(int totalRecords, boolean pooledIds, TestRecordGenerator generator,
+            ManagedBatchSession batchSession, CommitScope commitScope, OperationContext context) {
         int inserted = 0;
         for (int i = 0; i < totalRecords; i++) {
-            repository.save(PerformanceTestRecord.createTestRecord(i));
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            if (pooledIds) {
+                pooledRepository.save(generator.pooledRecord(i));
+            } else {
+                repository.save(generator.identityRecord(i));
+            }
+            batchSession.endBatch();
             inserted++;
+            commitScope.afterBatch(1);
+            context.endBatch(batchStart, 1);
         }
         return inserted;
     }
 
-    private BatchInsertResult performBatchInserts(int totalRecords, int batchSize, String operationId) {
+    /**
+     * One virtual thread per row, each saved in its own transaction; the
+     * commit scope is not used, so the calling thread holds no connection
+     */
+    private int performConcurrentSingleInserts(int totalRecords, boolean pooledIds, TestRecordGenerator generator,
+            OperationContext context) {
+        try (BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                connectionPoolLimits.getUsableConnections(), context)) {
+            for (int i = 0; i < totalRecords; i++) {
+                int index = i;
+                boolean submitted = executor.submit(() -> {
+                    if (pooledIds) {
+                        pooledRepository.save(generator.pooledRecord(index));
+                    } else {
+                        repository.save(generator.identityRecord(index));
+                    }
+                    // Each row commits on its own, outside any commit scope
+                    recordCountTracker.recordsInserted(1);
+                    return 1;
+                });
+                if (!submitted) {
+                    break;
+                }
+            }
+            return executor.awaitCompletion();
+        }
+    }
+
+    /**
+     * saveAll per batch; the batch session flushes and clears at each
+     * boundary so entities do not pile up until the transaction commits
+     */
+    private BatchInsertResult performBatchInserts(int totalRecords, int batchSize, boolean pooledIds,
+            TestRecordGenerator generator, ManagedBatchSession batchSession, CommitScope commitScope,
+            OperationContext context) {
+        int totalInserted = 0;
+        int batchCount = 0;
+        for (int i = 0; i < totalRecords; i += batchSize) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            int end = Math.min(i + batchSize, totalRecords);
+            int inserted = pooledIds ? savePooledBatch(generator, i, end) : saveIdentityBatch(generator, i, end);
+            batchSession.endBatch();
+            totalInserted += inserted;
+            batchCount++;
+            commitScope.afterBatch(inserted);
+            context.endBatch(batchStart, inserted);
+        }
+        return new BatchInsertResult(totalInserted, batchCount);
+    }
+
+    private int saveIdentityBatch(TestRecordGenerator generator, int from, int to) {
+        List<PerformanceTestRecord> batch = new ArrayList<>(to - from);
+        for (int j = from; j < to; j++) {
+            batch.add(generator.identityRecord(j));
+        }
+        return repository.saveAll(batch).size();
+    }
+
+    private int savePooledBatch(TestRecordGenerator generator, int from, int to) {
+        List<PerformancePooledTestRecord> batch = new ArrayList<>(to - from);
+        for (int j = from; j < to; j++) {
+            batch.add(generator.pooledRecord(j));
+        }
+        return pooledRepository.saveAll(batch).size();
+    }
+
+    private BatchInsertResult performJdbcBatchInserts(TargetTable table, int totalRecords, int batchSize,
+            boolean driverRewrite, TestRecordGenerator generator, CommitScope commitScope,
+            OperationContext context) {
         int totalInserted = 0;
         int batchCount = 0;
         for (int i = 0; i < totalRecords; i += batchSize) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            List<PerformanceTestRecord> batch = new ArrayList<>(batchSize);
+            for (int j = i; j < i + batchSize && j < totalRecords; j++) {
+                batch.add(generator.identityRecord(j));
+            }
+            int inserted = jdbcRepository.batchInsert(table, batch, driverRewrite);
+            totalInserted += inserted;
+            batchCount++;
+            commitScope.afterBatch(inserted);
+            context.endBatch(batchStart, inserted);
+        }
+        return new BatchInsertResult(totalInserted, batchCount);
+    }
+
+    private BatchInsertResult performMultiRowInserts(TargetTable table, int totalRecords, int batchSize,
+            TestRecordGenerator generator, CommitScope commitScope, OperationContext context) {
+        int totalInserted = 0;
+        int batchCount = 0;
+        for (int i = 0; i < totalRecords; i += batchSize) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            List<PerformanceTestRecord> batch = new ArrayList<>(batchSize);
+            for (int j = i; j < i + batchSize && j < totalRecords; j++) {
+                batch.add(generator.identityRecord(j));
+            }
+            int inserted = jdbcRepository.multiRowInsert(table, batch);
+            totalInserted += inserted;
+            batchCount++;
+            commitScope.afterBatch(inserted);
+            context.endBatch(batchStart, inserted);
+        }
+        return new BatchInsertResult(totalInserted, batchCount);
+    }
+
+    private BatchInsertResult performStatelessInserts(int totalRecords, int batchSize, boolean pooledIds,
+            TestRecordGenerator generator, CommitScope commitScope, OperationContext context) {
+        int totalInserted = 0;
+        int batchCount = 0;
+        for (int i = 0; i < totalRecords; i += batchSize) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            List<AbstractPerformanceTestRecord> batch = new ArrayList<>(batchSize);
+            for (int j = i; j < i + batchSize && j < totalRecords; j++) {
+                batch.add(pooledIds ? generator.pooledRecord(j)
+                        : generator.identityRecord(j));
+            }
+            int inserted = statelessRepository.insertAll(batch);
+            totalInserted += inserted;
+            batchCount++;
+            commitScope.afterBatch(inserted);
+            context.endBatch(batchStart, inserted);
+        }
+        return new BatchInsertResult(totalInserted, batchCount);
+    }
+
+    private BatchInsertResult performCopyInserts(TargetTable table, int totalRecords, int batchSize,
+            TestRecordGenerator generator, CommitScope commitScope, OperationContext context) {
+        int totalInserted = 0;
+        int batchCount = 0;
+        for (int i = 0; i < totalRecords; i += batchSize) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
             List<PerformanceTestRecord> batch = new ArrayList<>();
             for (int j = i; j < i + batchSize && j < totalRecords; j++) {
-                batch.add(PerformanceTestRecord.createTestRecord(j));
+                batch.add(generator.identityRecord(j));
             }
-            totalInserted += repository.saveAll(batch).size();
+            int inserted = (int) jdbcRepository.copyInsert(table, batch);
+            totalInserted += inserted;
             batchCount++;
+            commitScope.afterBatch(inserted);
+            context.endBatch(batchStart, inserted);
         }
         return new BatchInsertResult(totalInserted, batchCount);
     }
 
-    private List<Long> getIdsForDeletion(int totalRecords, String operationId) {
-        return repository.findIdsPaginated(totalRecords, 0);
+    /**
+     * Per-batch latency timer; registration is idempotent, so repeated runs
+     * with the same tags share one meter
+     */
+    private Timer batchLatencyTimer(String operation, String strategy) {
+        return Timer.builder("performance.batch.latency")
+                .description("Latency of individual insert/delete batches")
+                .tag("operation", operation)
+                .tag("strategy", strategy)
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
-    private int performSingleDeletes(List<Long> idsToDelete, String operationId) {
+    private int expectedBatches(int totalRecords, int batchSize) {
+        return (totalRecords + batchSize - 1) / batchSize;
+    }
+
+    private String resolveInsertTestType(InsertStrategy strategy, int batchSize) {
+        return switch (strategy) {
+            case COPY -> "COPY_INSERTION";
+            case JDBC_BATCH -> "JDBC_BATCH_INSERTION";
+            case MULTI_ROW_VALUES -> "MULTI_ROW_INSERTION";
+            case STATELESS_SESSION -> "STATELESS_INSERTION";
+            case JPA_BATCH -> batchSize == 1 ? "SINGLE_INSERTION" : "BATCH_INSERTION";
+        };
+    }
+
+    private int performSingleDeletes(KeysetIdCursor idCursor, CommitScope commitScope, OperationContext context) {
         int deleted = 0;
-        for (Long id : idsToDelete) {
-            deleted += repository.deleteRecordById(id);
+        List<Long> page;
+        while (!(page = idCursor.next(SINGLE_DELETE_ID_PAGE_SIZE)).isEmpty()) {
+            for (Long id : page) {
+                long batchStart = context.beginBatch();
+                commitScope.beforeBatch();
+                int rows = repository.deleteRecordById(id);
+                deleted += rows;
+                commitScope.afterBatch(rows);
+                context.endBatch(batchStart, rows);
+            }
         }
         return deleted;
     }
 
-    private BatchDeleteResult performBatchDeletes(List<Long> idsToDelete, int batchSize, String operationId) {
+    private int performConcurrentSingleDeletes(KeysetIdCursor idCursor, OperationContext context) {
+        try (BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                connectionPoolLimits.getUsableConnections(), context)) {
+            List<Long> page;
+            pages:
+            while (!(page = idCursor.next(SINGLE_DELETE_ID_PAGE_SIZE)).isEmpty()) {
+                for (Long id : page) {
+                    if (!executor.submit(() -> {
+                        int rows = repository.deleteRecordById(id);
+                        recordCountTracker.recordsDeleted(rows);
+                        return rows;
+                    })) {
+                        break pages;
+                    }
+                }
+            }
+            return executor.awaitCompletion();
+        }
+    }
+
+    private BatchDeleteResult performBatchDeletes(TargetTable table, KeysetIdCursor idCursor, int batchSize,
+            DeleteStrategy strategy, CommitScope commitScope, OperationContext context) {
         int totalDeleted = 0;
         int batchCount = 0;
-        for (int i = 0; i < idsToDelete.size(); i += batchSize) {
-            List<Long> batchIds = idsToDelete.subList(i, Math.min(i + batchSize, idsToDelete.size()));
-            totalDeleted += repository.batchDeleteByIds(batchIds);
+        List<Long> batchIds;
+        while (!(batchIds = idCursor.next(batchSize)).isEmpty()) {
+            long batchStart = context.beginBatch();
+            commitScope.beforeBatch();
+            int deleted = switch (strategy) {
+                case ANY_ARRAY -> jdbcRepository.deleteByIdArray(table, batchIds);
+                case STATELESS_SESSION -> statelessRepository.deleteByIds(batchIds);
+                case IN_LIST -> repository.batchDeleteByIds(batchIds);
+            };
+            totalDeleted += deleted;
             batchCount++;
+            commitScope.afterBatch(deleted);
+            context.endBatch(batchStart, deleted);
         }
         return new BatchDeleteResult(totalDeleted, batchCount);
     }
 
-    private long getUsedMemory() {
-        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    /**
+     * Megabytes allocated by the run's own thread; 0 when that is not
+     * measurable (virtual-thread runs)
+     */
+    private long allocatedMegabytes(ResourceUsage resourceUsage) {
+        Long allocatedBytes = resourceUsage.getAllocatedBytes();
+        return allocatedBytes != null ? allocatedBytes / (1024 * 1024) : 0L;
     }
 
     private record BatchInsertResult(int inserted, int batches) {
@@ -0,0 +1,89 @@
+package com.vivek.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.vivek.repository.PerformanceTestRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cheap row count for performance_test_records
+ *
+ * Combines a catalog estimate (refreshed on a schedule) with an in-process
+ * delta that the insert, delete and truncate paths keep up to date, so the
+ * count follows this application's own writes immediately without scanning
+ * the table. Writes by other clients show up at the next refresh.
+ *
+ * Runs report rows as each of their transactions commits, not when the run
+ * ends, so a refresh in the middle of a run never counts the same rows twice.
+ *
+ * Use {@link #exact()} only where correctness depends on the precise value.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class RecordCountTracker {
+
+    private final PerformanceTestRepository repository;
+    private final AtomicLong delta = new AtomicLong(0);
+    private volatile long baseline = -1;
+
+    public RecordCountTracker(PerformanceTestRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Estimated row count; never scans the table
+     */
+    public long estimate() {
+        if (baseline < 0) {
+            refreshBaseline();
+        }
+        return Math.max(0, baseline + delta.get());
+    }
+
+    /**
+     * Exact row count (full scan); also re-anchors the estimate
+     */
+    public long exact() {
+        Long count = repository.getTotalRecordCount();
+        long exactCount = count != null ? count : 0L;
+        reset(exactCount);
+        return exactCount;
+    }
+
+    public void recordsInserted(long count) {
+        delta.addAndGet(count);
+    }
+
+    public void recordsDeleted(long count) {
+        delta.addAndGet(-count);
+    }
+
+    /**
+     * Set the count to a known value, e.g. 0 after TRUNCATE
+     */
+    public synchronized void reset(long knownCount) {
+        baseline = knownCount;
+        delta.set(0);
+    }
+
+    @Scheduled(fixedDelayString = "${performance.test.record-count.refresh-interval:60000}")
+    public synchronized void refreshBaseline() {
+        try {
+            Long estimated = repository.getEstimatedRecordCount();
+            baseline = estimated != null ? estimated : 0L;
+            delta.set(0);
+        } catch (Exception e) {
+            log.warn("Failed to refresh record count estimate: {}", e.getMessage());
+            if (baseline < 0) {
+                baseline = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.vivek.service;
+
+import com.vivek.dto.ResourceUsage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+/**
+ * Per-run JVM resource accounting, replacing the used-heap difference that
+ * any GC during the run made meaningless
+ *
+ * Provides:
+ * - Bytes allocated and CPU time of the calling thread
+ *   (com.sun.management.ThreadMXBean)
+ * - GC collection count and time deltas across all collectors
+ * - Peak heap usage from the heap memory pools, reset at each snapshot
+ *
+ * Snapshots must be taken and closed on the same thread. Peak tracking is
+ * shared by the whole JVM, so overlapping runs reset each other's peaks.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ResourceUsageTracker {
+
+    private static final long UNAVAILABLE = -1L;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+    private final List<MemoryPoolMXBean> heapPools;
+
+    public ResourceUsageTracker() {
+        this.threadMXBean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                ? bean
+                : null;
+        this.garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .toList();
+
+        if (threadMXBean == null) {
+            log.warn("⚠️ com.sun.management.ThreadMXBean not available, allocation and CPU accounting disabled");
+        } else {
+            if (threadMXBean.isThreadAllocatedMemorySupported() && !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (threadMXBean.isCurrentThreadCpuTimeSupported() && !threadMXBean.isThreadCpuTimeEnabled()) {
+                threadMXBean.setThreadCpuTimeEnabled(true);
+            }
+        }
+    }
+
+    /**
+     * Read the counters and restart heap peak tracking
+     */
+    public Snapshot snapshot() {
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        return new Snapshot(Thread.currentThread().threadId(), allocatedBytes(), cpuTimeNanos(),
+                gcCount(), gcTimeMs());
+    }
+
+    /**
+     * Resources used since the snapshot, with per-record figures for the
+     * given number of processed records; pass callingThreadOnly = false when
+     * the work ran on other threads, which leaves allocation and CPU null
+     */
+    public ResourceUsage since(Snapshot start, long records, boolean callingThreadOnly) {
+        boolean sameThread = callingThreadOnly && Thread.currentThread().threadId() == start.threadId;
+        long allocated = delta(start.allocatedBytes, sameThread ? allocatedBytes() : UNAVAILABLE);
+        long cpuNanos = delta(start.cpuTimeNanos, sameThread ? cpuTimeNanos() : UNAVAILABLE);
+        Double cpuMs = cpuNanos == UNAVAILABLE ? null : cpuNanos / 1_000_000.0;
+
+        return ResourceUsage.builder()
+                .allocatedBytes(allocated == UNAVAILABLE ? null : allocated)
+                .allocatedBytesPerRecord(allocated == UNAVAILABLE || records <= 0 ? null : (double) allocated / records)
+                .cpuTimeMs(cpuMs)
+                .cpuMsPerRecord(cpuMs == null || records <= 0 ? null : cpuMs / records)
+                .gcCount(gcCount() - start.gcCount)
+                .gcTimeMs(gcTimeMs() - start.gcTimeMs)
+                .peakHeapUsedMb(peakHeapUsedBytes() / (1024 * 1024))
+                .build();
+    }
+
+    private long allocatedBytes() {
+        if (threadMXBean == null || Thread.currentThread().isVirtual()
+                || !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return UNAVAILABLE;
+        }
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private long cpuTimeNanos() {
+        if (threadMXBean == null || Thread.currentThread().isVirtual() || !threadMXBean.isThreadCpuTimeEnabled()) {
+            return UNAVAILABLE;
+        }
+        return threadMXBean.getCurrentThreadCpuTime();
+    }
+
+    private long gcCount() {
+        return garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private long gcTimeMs() {
+        return garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+
+    private long peakHeapUsedBytes() {
+        return heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static long delta(long start, long end) {
+        return start == UNAVAILABLE || end == UNAVAILABLE ? UNAVAILABLE : end - start;
+    }
+
+    public record Snapshot(long threadId, long allocatedBytes, long cpuTimeNanos, long gcCount, long gcTimeMs) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.vivek.service;
+
+import com.vivek.dto.RecordGenerator;
+import com.vivek.model.AbstractPerformanceTestRecord;
+import com.vivek.model.PerformancePooledTestRecord;
+import com.vivek.model.PerformanceTestRecord;
+
+/**
+ * Source of generated test rows for insert runs and table seeding
+ *
+ * Implementations only fill the shared columns; the entity type decides the
+ * id strategy.
+ *
+ * @author Vivek
+ * @version 1.0.0
+ */
+interface TestRecordGenerator {
+
+    void fill(AbstractPerformanceTestRecord record, int index);
+
+    default PerformanceTestRecord identityRecord(int index) {
+        PerformanceTestRecord record = new PerformanceTestRecord();
+        fill(record, index);
+        return record;
+    }
+
+    default PerformancePooledTestRecord pooledRecord(int index) {
+        PerformancePooledTestRecord record = new PerformancePooledTestRecord();
+        fill(record, index);
+        return record;
+    }
+
+    static TestRecordGenerator of(RecordGenerator type) {
+        return switch (type) {
+            case STANDARD -> AbstractPerformanceTestRecord::applyTestData;
+            case FAST -> FastTestRecordGenerator.INSTANCE;
+        };
+    }
+}
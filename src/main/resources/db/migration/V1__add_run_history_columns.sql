@@ -0,0 +1,31 @@
+-- Brings a database created before the run-option and resource columns up to
+-- the current entities, so ddl-auto=validate passes after an upgrade. Fresh
+-- databases from Docker/init-performance-tables.sql already have everything,
+-- and each statement is then a no-op.
+
+-- Sequence behind idStrategy=POOLED_SEQUENCE (PerformancePooledTestRecord)
+CREATE SEQUENCE IF NOT EXISTS performance_test_records_pooled_seq
+    START WITH 1000000001
+    INCREMENT BY 50;
+
+ALTER TABLE IF EXISTS performance_metrics_history
+    ADD COLUMN IF NOT EXISTS strategy VARCHAR(30),
+    ADD COLUMN IF NOT EXISTS id_strategy VARCHAR(30),
+    ADD COLUMN IF NOT EXISTS execution_mode VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS commit_interval INTEGER,
+    ADD COLUMN IF NOT EXISTS target_table VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS asynchronous_commit BOOLEAN,
+    ADD COLUMN IF NOT EXISTS driver_rewrite BOOLEAN,
+    ADD COLUMN IF NOT EXISTS record_generator VARCHAR(20),
+    ADD COLUMN IF NOT EXISTS operation_id VARCHAR(100),
+    ADD COLUMN IF NOT EXISTS batch_p50_ms DECIMAL(12,3),
+    ADD COLUMN IF NOT EXISTS batch_p99_ms DECIMAL(12,3),
+    ADD COLUMN IF NOT EXISTS allocated_bytes_per_record DECIMAL(14,2),
+    ADD COLUMN IF NOT EXISTS cpu_ms_per_record DECIMAL(12,6),
+    ADD COLUMN IF NOT EXISTS gc_count BIGINT,
+    ADD COLUMN IF NOT EXISTS gc_time_ms BIGINT,
+    ADD COLUMN IF NOT EXISTS peak_heap_mb BIGINT,
+    ADD COLUMN IF NOT EXISTS wal_bytes BIGINT,
+    ADD COLUMN IF NOT EXISTS wal_bytes_per_row DECIMAL(12,2),
+    ADD COLUMN IF NOT EXISTS shared_blocks_hit BIGINT,
+    ADD COLUMN IF NOT EXISTS shared_blocks_read BIGINT;
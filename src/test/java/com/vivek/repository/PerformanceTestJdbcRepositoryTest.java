@@ -0,0 +1,123 @@
+package com.vivek.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import com.vivek.dto.TargetTable;
+import com.vivek.model.PerformanceTestRecord;
+
+class PerformanceTestJdbcRepositoryTest {
+
+    // The v3 protocol limit on bind parameters per statement
+    private static final int MAX_BIND_PARAMETERS = 32767;
+
+    private static final int PARAMETERS_PER_ROW = 11;
+
+    @Test
+    void multiRowChunkIsTheLargestThatFitsTheParameterLimit() {
+        int rows = PerformanceTestJdbcRepository.MAX_MULTI_ROW_VALUES_ROWS;
+
+        assertThat(rows * PARAMETERS_PER_ROW).isLessThanOrEqualTo(MAX_BIND_PARAMETERS);
+        assertThat((rows + 1) * PARAMETERS_PER_ROW).isGreaterThan(MAX_BIND_PARAMETERS);
+    }
+
+    @Test
+    void multiRowInsertSplitsAtTheParameterLimit() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        PerformanceTestJdbcRepository repository = new PerformanceTestJdbcRepository(jdbcTemplate,
+                mock(DataSource.class));
+        int chunk = PerformanceTestJdbcRepository.MAX_MULTI_ROW_VALUES_ROWS;
+
+        int inserted = repository.multiRowInsert(TargetTable.STANDARD, records(2 * chunk + 1));
+
+        assertThat(inserted).isEqualTo(2 * chunk + 1);
+        assertThat(jdbcTemplate.placeholders).containsExactly(chunk * PARAMETERS_PER_ROW,
+                chunk * PARAMETERS_PER_ROW, PARAMETERS_PER_ROW);
+        assertThat(jdbcTemplate.highestBoundIndex).containsExactlyElementsOf(jdbcTemplate.placeholders);
+        assertThat(jdbcTemplate.statements).allMatch(sql -> sql.startsWith("INSERT INTO performance_test_records"));
+    }
+
+    @Test
+    void multiRowInsertOfExactlyOneChunkIsOneStatement() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        PerformanceTestJdbcRepository repository = new PerformanceTestJdbcRepository(jdbcTemplate,
+                mock(DataSource.class));
+
+        repository.multiRowInsert(TargetTable.STANDARD,
+                records(PerformanceTestJdbcRepository.MAX_MULTI_ROW_VALUES_ROWS));
+
+        assertThat(jdbcTemplate.statements).hasSize(1);
+    }
+
+    @Test
+    void copyValueWritesNullMarker() {
+        assertThat(copyValue(null)).isEqualTo("\\N");
+    }
+
+    @Test
+    void copyValueEscapesDelimitersAndBackslash() {
+        assertThat(copyValue("a\tb\nc\rd\\e")).isEqualTo("a\\tb\\nc\\rd\\\\e");
+    }
+
+    @Test
+    void copyValueKeepsTheLiteralTextOfAnEscapedNullMarker() {
+        assertThat(copyValue("\\N")).isEqualTo("\\\\N");
+    }
+
+    @Test
+    void copyValueLeavesOrdinaryTextAndNumbersAlone() {
+        assertThat(copyValue("{\"index\":1, \"tags\":\"a,b\"}")).isEqualTo("{\"index\":1, \"tags\":\"a,b\"}");
+        assertThat(copyValue(42L)).isEqualTo("42");
+    }
+
+    private String copyValue(Object value) {
+        return PerformanceTestJdbcRepository.appendCopyValue(new StringBuilder(), value).toString();
+    }
+
+    private List<PerformanceTestRecord> records(int count) {
+        return new ArrayList<>(Collections.nCopies(count, new PerformanceTestRecord()));
+    }
+
+    /**
+     * Runs each statement's setter against a stub that tracks the highest
+     * parameter index bound, and reports one row per VALUES tuple
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> statements = new ArrayList<>();
+        private final List<Integer> placeholders = new ArrayList<>();
+        private final List<Integer> highestBoundIndex = new ArrayList<>();
+
+        @Override
+        public int update(String sql, PreparedStatementSetter setter) {
+            int[] highest = new int[1];
+            PreparedStatement statement = mock(PreparedStatement.class, invocation -> {
+                if (invocation.getArguments().length > 0 && invocation.getArgument(0) instanceof Integer index) {
+                    highest[0] = Math.max(highest[0], index);
+                }
+                return null;
+            });
+            try {
+                setter.setValues(statement);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            int parameters = (int) sql.chars().filter(c -> c == '?').count();
+            statements.add(sql);
+            placeholders.add(parameters);
+            highestBoundIndex.add(highest[0]);
+            return parameters / PARAMETERS_PER_ROW;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.vivek.exception.ValidationException;
+
+class BenchmarkStatisticsTest {
+
+    private static final List<Double> SAMPLES = List.of(10.0, 12.0, 14.0);
+
+    @Test
+    void meanAndSampleStandardDeviation() {
+        double mean = BenchmarkStatistics.mean(SAMPLES);
+
+        assertThat(mean).isEqualTo(12.0);
+        assertThat(BenchmarkStatistics.stdDev(SAMPLES, mean)).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void marginOfErrorUsesStudentTForTheConfidenceLevel() {
+        double standardError = 2.0 / Math.sqrt(3);
+
+        assertThat(BenchmarkStatistics.marginOfError(SAMPLES, 2.0, 0.90))
+                .isCloseTo(2.920 * standardError, within(1e-9));
+        assertThat(BenchmarkStatistics.marginOfError(SAMPLES, 2.0, 0.95))
+                .isCloseTo(4.303 * standardError, within(1e-9));
+        assertThat(BenchmarkStatistics.marginOfError(SAMPLES, 2.0, 0.99))
+                .isCloseTo(9.925 * standardError, within(1e-9));
+    }
+
+    @Test
+    void marginOfErrorFallsBackToNormalBeyondTheTable() {
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            samples.add(i % 2 == 0 ? 10.0 : 14.0);
+        }
+        double mean = BenchmarkStatistics.mean(samples);
+        double stdDev = BenchmarkStatistics.stdDev(samples, mean);
+
+        assertThat(BenchmarkStatistics.marginOfError(samples, stdDev, 0.95))
+                .isCloseTo(1.960 * stdDev / Math.sqrt(40), within(1e-9));
+    }
+
+    @Test
+    void singleSampleHasNoSpread() {
+        List<Double> samples = List.of(42.0);
+
+        assertThat(BenchmarkStatistics.stdDev(samples, 42.0)).isZero();
+        assertThat(BenchmarkStatistics.marginOfError(samples, 0.0, 0.95)).isZero();
+    }
+
+    @Test
+    void onlyTabulatedConfidenceLevelsAreAccepted() {
+        assertThatCode(() -> BenchmarkStatistics.validateConfidenceLevel(0.95)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> BenchmarkStatistics.validateConfidenceLevel(0.80))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class CommitScopeTest {
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+    @Test
+    void commitsEveryIntervalBatches() {
+        List<Long> committed = new ArrayList<>();
+        CommitScope scope = new CommitScope(transactionManager, 2, null, committed::add);
+
+        runBatches(scope, 5, 10);
+        scope.complete();
+
+        assertThat(scope.getCommits()).isEqualTo(3);
+        assertThat(scope.getCommittedRows()).isEqualTo(50);
+        assertThat(committed).containsExactly(20L, 20L, 10L);
+        assertThat(transactionManager.begun).isEqualTo(3);
+        assertThat(transactionManager.definitions)
+                .allMatch(definition -> definition.getPropagationBehavior()
+                        == TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    void wholeOperationCommitsOnceAtComplete() {
+        CommitScope scope = new CommitScope(transactionManager, CommitScope.WHOLE_OPERATION);
+
+        runBatches(scope, 4, 25);
+        assertThat(scope.getCommits()).isZero();
+
+        scope.complete();
+
+        assertThat(scope.getCommits()).isEqualTo(1);
+        assertThat(scope.getCommittedRows()).isEqualTo(100);
+        assertThat(transactionManager.begun).isEqualTo(1);
+    }
+
+    @Test
+    void completeWithNothingOpenDoesNotCommit() {
+        CommitScope scope = new CommitScope(transactionManager, 2);
+
+        runBatches(scope, 2, 10);
+        scope.complete();
+
+        assertThat(scope.getCommits()).isEqualTo(1);
+        assertThat(transactionManager.commits).isEqualTo(1);
+    }
+
+    @Test
+    void rollbackDiscardsOnlyTheOpenInterval() {
+        List<Long> committed = new ArrayList<>();
+        CommitScope scope = new CommitScope(transactionManager, 2, null, committed::add);
+
+        runBatches(scope, 3, 10);
+        scope.rollbackIfActive();
+        scope.rollbackIfActive();
+
+        assertThat(scope.getCommittedRows()).isEqualTo(20);
+        assertThat(committed).containsExactly(20L);
+        assertThat(transactionManager.rollbacks).isEqualTo(1);
+    }
+
+    @Test
+    void setupRunsOncePerTransaction() {
+        int[] setups = new int[1];
+        CommitScope scope = new CommitScope(transactionManager, 3, () -> setups[0]++);
+
+        runBatches(scope, 7, 1);
+        scope.complete();
+
+        assertThat(setups[0]).isEqualTo(3);
+    }
+
+    private void runBatches(CommitScope scope, int batches, int rowsPerBatch) {
+        for (int i = 0; i < batches; i++) {
+            scope.beforeBatch();
+            scope.afterBatch(rowsPerBatch);
+        }
+    }
+
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+        private final List<TransactionDefinition> definitions = new ArrayList<>();
+        private int begun;
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            definitions.add(definition);
+            begun++;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.vivek.model.PerformanceTestRecord;
+
+class FastTestRecordGeneratorTest {
+
+    private static final String UUID_V4 = "[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}";
+
+    @Test
+    void testIdsAreLowercaseVersion4Uuids() {
+        for (int i = 0; i < 1000; i++) {
+            String testId = FastTestRecordGenerator.INSTANCE.identityRecord(i).getTestId();
+
+            assertThat(testId).hasSize(36).matches(UUID_V4);
+            UUID uuid = UUID.fromString(testId);
+            assertThat(uuid.version()).isEqualTo(4);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(uuid.toString()).isEqualTo(testId);
+        }
+    }
+
+    @Test
+    void testIdsDoNotRepeatTheReusedBuffer() {
+        Set<String> testIds = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            testIds.add(FastTestRecordGenerator.INSTANCE.identityRecord(i).getTestId());
+        }
+
+        assertThat(testIds).hasSize(1000);
+    }
+
+    @Test
+    void rowsKeepTheStandardGeneratorShape() {
+        PerformanceTestRecord standard = new PerformanceTestRecord();
+        standard.applyTestData(20);
+        PerformanceTestRecord fast = FastTestRecordGenerator.INSTANCE.identityRecord(20);
+
+        assertThat(fast).usingRecursiveComparison()
+                .comparingOnlyFields("category", "description", "isActive", "priority", "tags")
+                .isEqualTo(standard);
+        assertThat(fast.getStringValue()).startsWith("TestData_20_");
+        assertThat(fast.getJsonData())
+                .matches("\\{\"index\":20,\"timestamp\":\"\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\",.*")
+                .endsWith("\",\"metadata\":{\"batch\":true,\"test\":true}}");
+        // Second 0, where withNano(0).toString() would stop at the minutes
+        assertThat(FastTestRecordGenerator.jsonTimestamp(LocalDateTime.of(2026, 10, 16, 9, 30, 0, 500_000_000)))
+                .isEqualTo("2026-10-16T09:30:00");
+    }
+}
@@ -0,0 +1,105 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetIdCursorTest {
+
+    private static final List<Long> IDS = LongStream.rangeClosed(1, 10).boxed().toList();
+
+    private final List<long[]> loads = new ArrayList<>();
+
+    @Test
+    void pagesThroughIdsAfterTheStartingId() {
+        KeysetIdCursor cursor = new KeysetIdCursor(this::loadAfter, 3, Integer.MAX_VALUE);
+
+        assertThat(cursor.next(3)).containsExactly(4L, 5L, 6L);
+        assertThat(cursor.next(3)).containsExactly(7L, 8L, 9L);
+        assertThat(cursor.next(3)).containsExactly(10L);
+        assertThat(loads).extracting(load -> load[0]).containsExactly(3L, 6L, 9L);
+    }
+
+    @Test
+    void maxIdsCapsTheLastPage() {
+        KeysetIdCursor cursor = new KeysetIdCursor(this::loadAfter, 0, 5);
+
+        assertThat(cursor.next(3)).containsExactly(1L, 2L, 3L);
+        assertThat(cursor.next(3)).containsExactly(4L, 5L);
+        assertThat(cursor.next(3)).isEmpty();
+        assertThat(loads).extracting(load -> load[1]).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void stopsLoadingOnceTheTableIsExhausted() {
+        KeysetIdCursor cursor = new KeysetIdCursor(this::loadAfter, 8, 100);
+
+        assertThat(cursor.next(5)).containsExactly(9L, 10L);
+        assertThat(cursor.next(5)).isEmpty();
+        assertThat(cursor.next(5)).isEmpty();
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    void zeroMaxIdsNeverLoads() {
+        KeysetIdCursor cursor = new KeysetIdCursor(this::loadAfter, 0, 0);
+
+        assertThat(cursor.next(10)).isEmpty();
+        assertThat(loads).isEmpty();
+    }
+
+    @Test
+    void contextWithoutRestrictionHasNoIdLimit() {
+        OperationContext context = new OperationContext("load");
+
+        assertThat(context.hasIdLimit()).isFalse();
+        assertThat(context.getStartAfterId()).isZero();
+    }
+
+    @Test
+    void restrictedWorkersDeleteDisjointSlices() {
+        OperationContext first = new OperationContext("worker-0");
+        OperationContext second = new OperationContext("worker-1");
+        first.restrictIds(0, 5);
+        second.restrictIds(5, 10);
+
+        List<Long> firstIds = drain(first, 100);
+        List<Long> secondIds = drain(second, 100);
+
+        assertThat(first.hasIdLimit()).isTrue();
+        assertThat(firstIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(secondIds).containsExactly(6L, 7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void restrictedCursorStopsAtMaxIdEvenBelowMaxIds() {
+        OperationContext context = new OperationContext("worker-0");
+        context.restrictIds(2, 4);
+
+        assertThat(drain(context, 100)).containsExactly(3L, 4L);
+    }
+
+    private List<Long> drain(OperationContext context, int maxIds) {
+        KeysetIdCursor cursor = new KeysetIdCursor(
+                (lastId, limit) -> loadInRange(lastId, context.getMaxId(), limit), context.getStartAfterId(), maxIds);
+        List<Long> drained = new ArrayList<>();
+        List<Long> page;
+        while (!(page = cursor.next(2)).isEmpty()) {
+            drained.addAll(page);
+        }
+        return drained;
+    }
+
+    private List<Long> loadAfter(long lastId, int limit) {
+        return loadInRange(lastId, Long.MAX_VALUE, limit);
+    }
+
+    private List<Long> loadInRange(long lastId, long maxId, int limit) {
+        loads.add(new long[] { lastId, limit });
+        return IDS.stream().filter(id -> id > lastId && id <= maxId).limit(limit).toList();
+    }
+}
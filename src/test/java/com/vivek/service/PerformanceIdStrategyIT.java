@@ -0,0 +1,113 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.vivek.dto.IdStrategy;
+import com.vivek.dto.InsertStrategy;
+import com.vivek.dto.OperationOptions;
+import com.vivek.dto.PerformanceResult;
+import com.vivek.model.PerformancePooledTestRecord;
+
+/**
+ * Schema generation with both entities mapped onto performance_test_records,
+ * and JPA batch inserts with each id strategy
+ */
+@Testcontainers
+@ActiveProfiles("dev")
+@SpringBootTest(properties = { "app.security.enabled=false", "spring.jpa.show-sql=false" })
+class PerformanceIdStrategyIT {
+
+    private static final long POOLED_ID_START = 1000000001L;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private PerformanceTestService performanceTestService;
+
+    @Autowired
+    private PerformanceTableFixture tableFixture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void emptyTable() {
+        tableFixture.reset();
+    }
+
+    @Test
+    void schemaGenerationKeepsIdentityColumn() {
+        String isIdentity = jdbcTemplate.queryForObject("""
+                SELECT is_identity FROM information_schema.columns
+                WHERE table_name = 'performance_test_records' AND column_name = 'id'
+                """, String.class);
+        Integer sequences = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_sequences WHERE sequencename = ?", Integer.class,
+                PerformancePooledTestRecord.SEQUENCE_NAME);
+
+        assertThat(isIdentity).isEqualTo("YES");
+        assertThat(sequences).isEqualTo(1);
+    }
+
+    @Test
+    void identityInsertsUseIdentityRange() {
+        PerformanceResult result = insert(IdStrategy.IDENTITY);
+
+        assertThat(result.getRecordsProcessed()).isEqualTo(200);
+        assertThat(countIds("id < ?")).isEqualTo(200);
+    }
+
+    @Test
+    void pooledInsertsUseSequenceRange() {
+        PerformanceResult result = insert(IdStrategy.POOLED_SEQUENCE);
+
+        assertThat(result.getRecordsProcessed()).isEqualTo(200);
+        assertThat(countIds("id >= ?")).isEqualTo(200);
+    }
+
+    @Test
+    void bothStrategiesShareTheTableWithoutCollisions() {
+        insert(IdStrategy.IDENTITY);
+        insert(IdStrategy.POOLED_SEQUENCE);
+
+        Integer distinctIds = jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT id) FROM performance_test_records", Integer.class);
+        assertThat(distinctIds).isEqualTo(400);
+        assertThat(countIds("id < ?")).isEqualTo(200);
+        assertThat(countIds("id >= ?")).isEqualTo(200);
+    }
+
+    private PerformanceResult insert(IdStrategy idStrategy) {
+        return performanceTestService.smartInsert(200, 50, OperationOptions.builder()
+                .insertStrategy(InsertStrategy.JPA_BATCH)
+                .idStrategy(idStrategy)
+                .build());
+    }
+
+    private int countIds(String condition) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM performance_test_records WHERE " + condition, Integer.class, POOLED_ID_START);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.vivek.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.vivek.dto.TargetTable;
+import com.vivek.model.PerformanceTestRecord;
+import com.vivek.repository.PerformanceTestJdbcRepository;
+
+class PerformanceTableFixtureTest {
+
+    private final PerformanceTestJdbcRepository jdbcRepository = mock(PerformanceTestJdbcRepository.class);
+    private final RecordCountTracker recordCountTracker = new RecordCountTracker(null);
+    private final PerformanceTableFixture fixture = new PerformanceTableFixture(jdbcRepository, recordCountTracker);
+
+    private final List<List<PerformanceTestRecord>> copiedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        recordCountTracker.reset(500);
+        when(jdbcRepository.copyInsert(any(TargetTable.class), anyList())).thenAnswer(invocation -> {
+            List<PerformanceTestRecord> chunk = invocation.getArgument(1);
+            copiedChunks.add(chunk);
+            return (long) chunk.size();
+        });
+    }
+
+    @Test
+    void resetTruncatesAndZeroesTheCount() {
+        fixture.reset();
+
+        verify(jdbcRepository).truncate(TargetTable.STANDARD);
+        verify(jdbcRepository, never()).ensureUnloggedClone();
+        assertThat(recordCountTracker.estimate()).isZero();
+    }
+
+    @Test
+    void resetOfUnloggedCloneCreatesItFirstAndLeavesTheCountAlone() {
+        fixture.reset(TargetTable.UNLOGGED);
+
+        InOrder order = inOrder(jdbcRepository);
+        order.verify(jdbcRepository).ensureUnloggedClone();
+        order.verify(jdbcRepository).truncate(TargetTable.UNLOGGED);
+        assertThat(recordCountTracker.estimate()).isEqualTo(500);
+    }
+
+    @Test
+    void seedingCopiesInChunksAndCountsTheRows() {
+        fixture.resetWithRecords(25_000);
+
+        assertThat(copiedChunks).extracting(List::size).containsExactly(10_000, 10_000, 5_000);
+        assertThat(copiedChunks.get(2).get(0).getDescription()).contains("number 20000 ");
+        assertThat(recordCountTracker.estimate()).isEqualTo(25_000);
+    }
+
+    @Test
+    void seedingTheUnloggedCloneLeavesTheCountAlone() {
+        fixture.resetWithRecords(TargetTable.UNLOGGED, 3);
+
+        verify(jdbcRepository).copyInsert(any(TargetTable.class), anyList());
+        assertThat(copiedChunks).extracting(List::size).containsExactly(3);
+        assertThat(recordCountTracker.estimate()).isEqualTo(500);
+    }
+
+    @Test
+    void seedingZeroRecordsOnlyTruncates() {
+        fixture.resetWithRecords(0);
+
+        verify(jdbcRepository).truncate(TargetTable.STANDARD);
+        assertThat(copiedChunks).isEmpty();
+        assertThat(recordCountTracker.estimate()).isZero();
+    }
+}